@@ -7,6 +7,7 @@ plugins {
     alias(libs.plugins.jagr.gradle)
     alias(libs.plugins.javafx)
     alias(libs.plugins.algomate)
+    alias(libs.plugins.jmh)
 }
 
 version = file("version").readLines().first()
@@ -72,12 +73,31 @@ tasks {
         sourceCompatibility = "21"
         targetCompatibility = "21"
     }
+    register<JavaExec>("runTournament") {
+        group = "application"
+        description = "Plays a tournament between the available AI controllers without a user interface."
+        mainClass.set("hProjekt.sim.Tournament")
+        classpath = sourceSets.main.get().runtimeClasspath
+        args(listOfNotNull(
+            providers.gradleProperty("games").getOrElse("100"),
+            providers.gradleProperty("seed").orNull,
+        ))
+    }
     javadoc {
         options.jFlags?.add("-Duser.language=en")
         options.optionFiles = mutableListOf(project.file("src/main/javadoc.options"))
     }
 }
 
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.set(listOf(it)) }
+}
+
 javafx {
     version = "23"
     modules("javafx.controls", "javafx.graphics", "javafx.base", "javafx.fxml", "javafx.swing", "javafx.media")
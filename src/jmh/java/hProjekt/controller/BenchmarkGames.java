@@ -0,0 +1,142 @@
+package hProjekt.controller;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import hProjekt.Config;
+import hProjekt.model.BenchmarkGrids;
+import hProjekt.model.Edge;
+import hProjekt.model.GameRandom;
+import hProjekt.model.GameState;
+import hProjekt.model.Player;
+import hProjekt.model.Tile;
+
+/**
+ * A game in a fixed stage the {@link PlayerController} benchmarks run on.
+ * The grid, the rail networks and the chosen cities are generated from
+ * {@link BenchmarkGrids#SEED} and the dice always show
+ * {@link Config#DICE_SIDES}, so the benchmarks measure the same work on every
+ * run.
+ */
+final class BenchmarkGames {
+    /**
+     * The stages of a game the benchmarks can run in.
+     */
+    enum Stage {
+        /**
+         * A few rounds into the game: the rail networks are small and the players
+         * have few credits.
+         */
+        MID_GAME(3, 15, Config.STARTING_CREDITS),
+        /**
+         * The end of the game: the rail networks of all players span large parts
+         * of the grid and overlap, and the players have many credits.
+         */
+        LATE_GAME(Config.MAX_PLAYERS, 60, 5 * Config.STARTING_CREDITS);
+
+        private final int players;
+        private final int railsPerPlayer;
+        private final int credits;
+
+        /**
+         * Creates a new stage.
+         *
+         * @param players        the number of players
+         * @param railsPerPlayer the number of rails each player has built
+         * @param credits        the credits of each player
+         */
+        Stage(final int players, final int railsPerPlayer, final int credits) {
+            this.players = players;
+            this.railsPerPlayer = railsPerPlayer;
+            this.credits = credits;
+        }
+    }
+
+    /**
+     * Orders tiles by their positions.
+     */
+    static final Comparator<Tile> TILE_ORDER = Comparator.comparing(Tile::getPosition);
+
+    private final GameController gameController;
+    private final List<PlayerController> playerControllers;
+    private final Map<Player, Integer> credits;
+
+    /**
+     * Creates a new game in the given stage and phase.
+     * In the driving phase the cities are chosen and all players are driving,
+     * starting at the first tile of their rail network.
+     *
+     * @param stage the stage of the game
+     * @param phase the phase of the game
+     */
+    BenchmarkGames(final Stage stage, final GamePhase phase) {
+        final GameState state = new GameState(BenchmarkGrids.createGrid(Config.MAP_SCALE), new ArrayList<>(),
+                new GameRandom(BenchmarkGrids.SEED));
+        gameController = new GameController(state, () -> Config.DICE_SIDES);
+        for (int i = 0; i < stage.players; i++) {
+            state.newPlayer(null, null, null);
+        }
+        BenchmarkGrids.buildNetworks(state.getGrid(), state.getPlayers(), stage.railsPerPlayer);
+        playerControllers = new ArrayList<>();
+        for (final Player player : state.getPlayers()) {
+            player.addCredits(stage.credits - player.getCredits());
+            playerControllers.add(new PlayerController(gameController, player));
+        }
+        credits = state.getPlayers().stream().collect(Collectors.toMap(player -> player, Player::getCredits));
+
+        state.getGamePhaseProperty().setValue(phase);
+        if (phase == GamePhase.DRIVING_PHASE) {
+            gameController.chooseCities();
+            gameController.castDice();
+            for (final Player player : state.getPlayers()) {
+                state.setPlayerPositon(player, getNetwork(player).get(0).getPosition1());
+                state.addDrivingPlayer(player);
+            }
+        }
+    }
+
+    /**
+     * Returns the game controller of the game.
+     *
+     * @return the game controller of the game
+     */
+    GameController getGameController() {
+        return gameController;
+    }
+
+    /**
+     * Returns the player controller of the first player, whose actions are
+     * benchmarked.
+     *
+     * @return the player controller of the first player
+     */
+    PlayerController getPlayerController() {
+        return playerControllers.get(0);
+    }
+
+    /**
+     * Returns the rails of the given player in a fixed order.
+     *
+     * @param player the player to return the rails of
+     * @return the rails of the player
+     */
+    List<Edge> getNetwork(final Player player) {
+        return player.getRails().values().stream().sorted(BenchmarkGrids.EDGE_ORDER).toList();
+    }
+
+    /**
+     * Restores the credits all players had when the game was created.
+     */
+    void restoreCredits() {
+        credits.forEach((player, amount) -> {
+            if (player.getCredits() < amount) {
+                player.addCredits(amount - player.getCredits());
+            } else {
+                player.removeCredits(player.getCredits() - amount);
+            }
+        });
+    }
+}
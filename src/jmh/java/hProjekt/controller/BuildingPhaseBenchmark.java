@@ -0,0 +1,77 @@
+package hProjekt.controller;
+
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import hProjekt.controller.actions.IllegalActionException;
+import hProjekt.model.BenchmarkGrids;
+import hProjekt.model.Edge;
+
+/**
+ * Benchmarks the queries and actions of a {@link PlayerController} in the
+ * building phase.
+ * Actions changing the game are undone at the end of the measured method, so
+ * every invocation starts in the same state without a per-invocation fixture.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BuildingPhaseBenchmark {
+    @Param({ "MID_GAME", "LATE_GAME" })
+    private BenchmarkGames.Stage stage;
+
+    private BenchmarkGames game;
+    private PlayerController playerController;
+    private Edge buildableRail;
+    private int buildingBudget;
+
+    /**
+     * Creates the game the queries and actions run on.
+     */
+    @Setup
+    public void setup() {
+        game = new BenchmarkGames(stage, GamePhase.BUILDING_PHASE);
+        playerController = game.getPlayerController();
+        buildableRail = playerController.getBuildableRails().stream()
+                .max(Comparator.comparing(Edge::hasRail).thenComparing(BenchmarkGrids.EDGE_ORDER))
+                .orElseThrow(() -> new IllegalStateException("The player cannot build any rail"));
+        buildingBudget = playerController.getBuildingBudget();
+    }
+
+    /**
+     * Returns the edges the player can build a rail on.
+     *
+     * @return the buildable edges
+     */
+    @Benchmark
+    public Set<Edge> getBuildableRails() {
+        return playerController.getBuildableRails();
+    }
+
+    /**
+     * Builds a rail next to the network of the player.
+     * An edge where another player already owns a rail is preferred, so the
+     * parallel building costs are paid as well.
+     * The rail is removed again and the credits and the building budget are
+     * restored afterwards.
+     *
+     * @throws IllegalActionException if the rail cannot be built
+     */
+    @Benchmark
+    public void buildRail() throws IllegalActionException {
+        playerController.buildRail(buildableRail);
+        buildableRail.removeRail(playerController.getPlayer());
+        game.restoreCredits();
+        playerController.setBuildingBudget(buildingBudget);
+    }
+}
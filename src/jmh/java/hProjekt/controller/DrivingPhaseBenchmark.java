@@ -0,0 +1,120 @@
+package hProjekt.controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import hProjekt.Config;
+import hProjekt.controller.actions.IllegalActionException;
+import hProjekt.model.BenchmarkGrids;
+import hProjekt.model.Edge;
+import hProjekt.model.GameState;
+import hProjekt.model.Tile;
+import hProjekt.model.TilePosition;
+
+/**
+ * Benchmarks the queries and actions of a {@link PlayerController} in the
+ * driving phase.
+ * Actions changing the game are undone at the end of the measured method, so
+ * every invocation starts in the same state without a per-invocation fixture.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DrivingPhaseBenchmark {
+    @Param({ "MID_GAME", "LATE_GAME" })
+    private BenchmarkGames.Stage stage;
+
+    private BenchmarkGames game;
+    private GameState state;
+    private PlayerController playerController;
+    private Set<Edge> chosenEdges;
+    private Tile drivableTile;
+    private TilePosition position;
+
+    /**
+     * Creates the game the queries and actions run on.
+     */
+    @Setup
+    public void setup() {
+        game = new BenchmarkGames(stage, GamePhase.DRIVING_PHASE);
+        state = game.getGameController().getState();
+        playerController = game.getPlayerController();
+        chosenEdges = playerController.getChooseableEdges().stream()
+                .sorted(BenchmarkGrids.EDGE_ORDER)
+                .limit(Config.MAX_RENTABLE_DISTANCE / 2)
+                .collect(Collectors.toSet());
+        drivableTile = playerController.getDrivableTiles().keySet().stream()
+                .min(BenchmarkGames.TILE_ORDER)
+                .orElseThrow(() -> new IllegalStateException("The player cannot drive anywhere"));
+        position = state.getPlayerPositions().get(playerController.getPlayer());
+    }
+
+    /**
+     * Returns the edges of other players the player can choose to rent.
+     * The edges are cached by the controller, so this measures a cache hit.
+     *
+     * @return the chooseable edges
+     */
+    @Benchmark
+    public Set<Edge> getChooseableEdges() {
+        return playerController.getChooseableEdges();
+    }
+
+    /**
+     * Searches the edges of other players the player can choose to rent without
+     * using the cache of the controller.
+     *
+     * @return the chooseable edges
+     */
+    @Benchmark
+    public Set<Edge> computeChooseableEdges() {
+        return playerController.computeChooseableEdges();
+    }
+
+    /**
+     * Chooses a few of the chooseable edges and searches a path between the
+     * chosen cities over them.
+     *
+     * @throws IllegalActionException if the edges cannot be chosen
+     */
+    @Benchmark
+    public void chooseEdges() throws IllegalActionException {
+        playerController.chooseEdges(chosenEdges);
+    }
+
+    /**
+     * Returns the tiles the player can drive to with the current dice roll.
+     *
+     * @return the drivable tiles and the paths to them
+     */
+    @Benchmark
+    public Map<Tile, List<Tile>> getDrivableTiles() {
+        return playerController.getDrivableTiles();
+    }
+
+    /**
+     * Drives the player to one of the drivable tiles and moves them back.
+     * Driving does not roll the dice, so restoring the position and the point
+     * surplus is enough to undo it.
+     *
+     * @throws IllegalActionException if the player cannot drive to the tile
+     */
+    @Benchmark
+    public void drive() throws IllegalActionException {
+        playerController.drive(drivableTile);
+        state.setPlayerPositon(playerController.getPlayer(), position);
+        state.resetPlayerSurplus();
+    }
+}
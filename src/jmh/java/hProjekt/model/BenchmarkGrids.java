@@ -0,0 +1,94 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import hProjekt.Config;
+
+/**
+ * Creates the grids and rail networks the benchmarks run on.
+ * Everything is generated from fixed seeds, so the benchmarks measure the same
+ * work on every run and results can be compared across commits.
+ */
+public final class BenchmarkGrids {
+    /**
+     * The seed all benchmark grids are generated from.
+     */
+    public static final long SEED = 0x5EEDL;
+
+    /**
+     * Orders edges by their positions, so the edges picked from a set do not
+     * depend on its iteration order.
+     */
+    public static final Comparator<Edge> EDGE_ORDER = Comparator.comparing(Edge::getPosition1)
+            .thenComparing(Edge::getPosition2);
+
+    private BenchmarkGrids() {
+    }
+
+    /**
+     * Creates a new grid with the given scale and the default number of cities.
+     *
+     * @param scale the scale of the grid
+     * @return the new grid
+     */
+    public static HexGridImpl createGrid(final int scale) {
+        return new HexGridImpl(scale, Config.NUMBER_OF_CITIES, Config.TOWN_NAMES, SEED);
+    }
+
+    /**
+     * Creates the given number of players and lets each of them build a random
+     * network of rails.
+     *
+     * @param grid           the grid to build the rails on
+     * @param players        the number of players
+     * @param railsPerPlayer the number of rails each player builds
+     * @return the created players
+     * @see #buildNetworks(HexGrid, List, int)
+     */
+    public static List<Player> buildNetworks(final HexGrid grid, final int players, final int railsPerPlayer) {
+        final Random random = new Random(SEED);
+        final List<Player> result = new ArrayList<>();
+        for (int id = 1; id <= players; id++) {
+            result.add(new PlayerImpl.Builder(id, random).build(grid));
+        }
+        buildNetworks(grid, result, railsPerPlayer);
+        return result;
+    }
+
+    /**
+     * Lets each of the given players build a random network of rails, starting at
+     * a random starting city.
+     * The networks of the players overlap, so there are edges with multiple rail
+     * owners.
+     *
+     * @param grid           the grid to build the rails on
+     * @param players        the players building the rails
+     * @param railsPerPlayer the number of rails each player builds
+     */
+    public static void buildNetworks(final HexGrid grid, final List<Player> players, final int railsPerPlayer) {
+        final Random random = new Random(SEED);
+        final List<TilePosition> startingCities = grid.getStartingCities().keySet().stream().sorted().toList();
+        for (final Player player : players) {
+            final List<Edge> network = new ArrayList<>();
+            final TilePosition start = startingCities.get(random.nextInt(startingCities.size()));
+            for (int attempt = 0; network.size() < railsPerPlayer && attempt < 10 * railsPerPlayer; attempt++) {
+                final List<Edge> candidates = (network.isEmpty()
+                        ? grid.getTileAt(start).getEdges()
+                        : network.get(random.nextInt(network.size())).getConnectedEdges())
+                        .stream()
+                        .filter(edge -> !edge.getRailOwners().contains(player))
+                        .sorted(EDGE_ORDER)
+                        .toList();
+                if (candidates.isEmpty()) {
+                    continue;
+                }
+                final Edge edge = candidates.get(random.nextInt(candidates.size()));
+                edge.addRail(player);
+                network.add(edge);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package hProjekt.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the queries on single edges and tiles.
+ * Every benchmark runs the query once for every edge or tile of a grid where
+ * several players have built overlapping rail networks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EdgeBenchmark {
+    @Param({ "3", "5", "10" })
+    private int scale;
+
+    private List<Edge> edges;
+    private List<Edge> rails;
+    private List<Tile> tiles;
+    private Player player;
+
+    /**
+     * Creates the grid and rail networks the queries run on.
+     */
+    @Setup
+    public void setup() {
+        final HexGridImpl grid = BenchmarkGrids.createGrid(scale);
+        final List<Player> players = BenchmarkGrids.buildNetworks(grid, 4, 10 * scale);
+        player = players.get(0);
+        edges = grid.getEdges().values().stream().sorted(BenchmarkGrids.EDGE_ORDER).toList();
+        rails = edges.stream().filter(Edge::hasRail).toList();
+        tiles = grid.getTiles().values().stream().sorted((tile1, tile2) -> tile1.getPosition()
+                .compareTo(tile2.getPosition())).toList();
+    }
+
+    /**
+     * Returns the edges connected to every edge.
+     *
+     * @param blackhole the blackhole consuming the results
+     */
+    @Benchmark
+    public void getConnectedEdges(final Blackhole blackhole) {
+        for (final Edge edge : edges) {
+            blackhole.consume(edge.getConnectedEdges());
+        }
+    }
+
+    /**
+     * Returns the parallel building costs of every edge with a rail for one
+     * player.
+     *
+     * @param blackhole the blackhole consuming the results
+     */
+    @Benchmark
+    public void getParallelCostPerPlayer(final Blackhole blackhole) {
+        for (final Edge edge : rails) {
+            blackhole.consume(edge.getParallelCostPerPlayer(player));
+        }
+    }
+
+    /**
+     * Returns the neighbours of every tile.
+     *
+     * @param blackhole the blackhole consuming the results
+     */
+    @Benchmark
+    public void getNeighbours(final Blackhole blackhole) {
+        for (final Tile tile : tiles) {
+            blackhole.consume(tile.getNeighbours());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package hProjekt.model;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import hProjekt.Config;
+
+/**
+ * Benchmarks the construction of a {@link HexGridImpl} and the queries on the
+ * whole grid.
+ * The queries run on a grid where several players have built overlapping rail
+ * networks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HexGridBenchmark {
+    @Param({ "3", "5", "10" })
+    private int scale;
+
+    private HexGridImpl grid;
+    private Player player;
+    private TilePosition start;
+    private TilePosition end;
+    private Set<Edge> edges;
+    private int minimumDrivingCost;
+
+    /**
+     * Creates the grid and rail networks the queries run on.
+     */
+    @Setup
+    public void setup() {
+        grid = BenchmarkGrids.createGrid(scale);
+        final List<Player> players = BenchmarkGrids.buildNetworks(grid, 4, 10 * scale);
+        player = players.get(0);
+        final List<TilePosition> cities = grid.getCities().keySet().stream().sorted().toList();
+        start = cities.get(0);
+        end = cities.get(cities.size() - 1);
+        edges = Set.copyOf(grid.getEdges().values());
+        minimumDrivingCost = CostTables.current().getMinimumDrivingCost();
+    }
+
+    /**
+     * Returns the cost of driving along the edge between the given positions.
+     *
+     * @param from the position driven from
+     * @param to   the position driven to
+     * @return the cost of driving along the edge
+     */
+    private Integer drivingCost(final TilePosition from, final TilePosition to) {
+        return grid.getEdge(from, to).getDrivingCost(from);
+    }
+
+    /**
+     * Generates a new grid from the fixed seed.
+     *
+     * @return the new grid
+     */
+    @Benchmark
+    public HexGridImpl construct() {
+        return new HexGridImpl(scale, Config.NUMBER_OF_CITIES, Config.TOWN_NAMES, BenchmarkGrids.SEED);
+    }
+
+    /**
+     * Finds the cheapest path between the two cities furthest apart in the
+     * ordering of their positions.
+     *
+     * @return the found path
+     */
+    @Benchmark
+    public List<Edge> findPath() {
+        return grid.findPath(start, end, edges, this::drivingCost);
+    }
+
+    /**
+     * Finds the cheapest path between the same cities as {@link #findPath()},
+     * passing the minimum driving cost as a lower bound for the edge costs.
+     * This allows the grid to use an A* search.
+     *
+     * @return the found path
+     */
+    @Benchmark
+    public List<Edge> findPathWithMinimumEdgeCost() {
+        return grid.findPath(start, end, edges, this::drivingCost, minimumDrivingCost);
+    }
+
+    /**
+     * Iterates over the rails of one player.
+     * The grid may return a view, so the contents are consumed to include the cost
+     * of iterating it.
+     *
+     * @param blackhole the blackhole consuming the rails
+     */
+    @Benchmark
+    public void getRails(final Blackhole blackhole) {
+        for (final Edge rail : grid.getRails(player).values()) {
+            blackhole.consume(rail);
+        }
+    }
+
+    /**
+     * Iterates over the cities connected to a rail.
+     *
+     * @param blackhole the blackhole consuming the cities
+     */
+    @Benchmark
+    public void getConnectedCities(final Blackhole blackhole) {
+        for (final City city : grid.getConnectedCities().values()) {
+            blackhole.consume(city);
+        }
+    }
+
+    /**
+     * Iterates over the cities not connected to a rail.
+     *
+     * @param blackhole the blackhole consuming the cities
+     */
+    @Benchmark
+    public void getUnconnectedCities(final Blackhole blackhole) {
+        for (final City city : grid.getUnconnectedCities().values()) {
+            blackhole.consume(city);
+        }
+    }
+}
@@ -72,6 +72,13 @@ public class Config {
      */
     public static int CITY_NEAR_CITY_RADIUS = 3;
 
+    /**
+     * Whether the cities of a grid generated from a seed are placed by sampling
+     * the tiles weighted with their city probability instead of rejecting random
+     * tiles.
+     */
+    public static boolean WEIGHTED_CITY_PLACEMENT = true;
+
     /**
      * The minimum required number of players in a game.
      */
@@ -138,6 +145,19 @@ public class Config {
      */
     public static Path CSV_PATH = Paths.get("src/main/resources/leaderboard.csv");
 
+    /**
+     * The time in milliseconds an AI controller waits before executing its
+     * actions, so its moves can be followed in the UI.
+     */
+    public static long AI_ACTION_DELAY = 100;
+
+    /**
+     * The directory the trained name models are stored in, so later starts do
+     * not have to train them again. The models are not stored if this is
+     * {@code null}.
+     */
+    public static Path NAME_MODEL_CACHE_DIRECTORY = null;
+
     /**
      * A set of AI controllers that are available for the game.
      */
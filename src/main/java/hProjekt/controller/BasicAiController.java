@@ -1,5 +1,6 @@
 package hProjekt.controller;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 
@@ -48,7 +49,9 @@ public class BasicAiController extends AiController {
     @Override
     protected void executeActionBasedOnObjective(PlayerObjective objective) {
         try {
-            Thread.sleep(100);
+            if (Config.AI_ACTION_DELAY > 0) {
+                Thread.sleep(Config.AI_ACTION_DELAY);
+            }
         } catch (InterruptedException e) {
             throw new RuntimeException("Main thread was interrupted", e);
         }
@@ -60,10 +63,11 @@ public class BasicAiController extends AiController {
         }
         if (allowedActions.contains(BuildRailAction.class)
                 && !playerController.getPlayerState().buildableRailEdges().isEmpty()) {
-            int randomIndex = Config.RANDOM.nextInt(playerController.getPlayerState().buildableRailEdges().size());
-            playerController.triggerAction(new BuildRailAction(
-                    List.of(playerController.getPlayerState().buildableRailEdges()
-                            .toArray(Edge[]::new)[randomIndex])));
+            final List<Edge> buildableRailEdges = playerController.getPlayerState().buildableRailEdges().stream()
+                    .sorted(Comparator.comparing(Edge::getPosition1).thenComparing(Edge::getPosition2))
+                    .toList();
+            int randomIndex = gameState.getRandom().getAiRandom().nextInt(buildableRailEdges.size());
+            playerController.triggerAction(new BuildRailAction(List.of(buildableRailEdges.get(randomIndex))));
         }
         if (allowedActions.contains(ConfirmBuildAction.class) && playerController.getPlayerState().buildableRailEdges()
                 .isEmpty()) {
@@ -76,11 +80,11 @@ public class BasicAiController extends AiController {
             playerController.triggerAction(new ConfirmDrive(true));
         }
         if (allowedActions.contains(DriveAction.class)) {
-            int randomIndex = Config.RANDOM.nextInt(playerController.getPlayerState().drivableTiles().size());
-            playerController
-                    .triggerAction(new DriveAction(
-                            playerController.getPlayerState().drivableTiles().keySet()
-                                    .toArray(Tile[]::new)[randomIndex]));
+            final List<Tile> drivableTiles = playerController.getPlayerState().drivableTiles().keySet().stream()
+                    .sorted(Comparator.comparing(Tile::getPosition))
+                    .toList();
+            int randomIndex = gameState.getRandom().getAiRandom().nextInt(drivableTiles.size());
+            playerController.triggerAction(new DriveAction(drivableTiles.get(randomIndex)));
         }
         if (allowedActions.contains(ChooseRailsAction.class)) {
             playerController.triggerAction(new ChooseRailsAction(Set.of()));
@@ -48,7 +48,7 @@ public class GameController {
      */
     public GameController(GameState state, Supplier<Integer> dice) {
         this.state = state;
-        this.playerControllers = new HashMap<>();
+        this.playerControllers = new LinkedHashMap<>();
         this.dice = dice;
     }
 
@@ -58,18 +58,56 @@ public class GameController {
      * @param state the game state
      */
     public GameController(GameState state) {
-        this(state, () -> Config.RANDOM.nextInt(1, Config.DICE_SIDES + 1));
+        this(state, () -> randomOf(state).getDiceRandom().nextInt(1, Config.DICE_SIDES + 1));
+    }
+
+    /**
+     * Creates a new GameController with a new game state generated from the given
+     * sources of randomness.
+     * Games created with the same seed are generated identically and replay
+     * identically given the same player actions.
+     *
+     * @param random the sources of randomness of the game
+     */
+    public GameController(GameRandom random) {
+        this(new GameState(new HexGridImpl(Config.MAP_SCALE, Config.NUMBER_OF_CITIES, Config.TOWN_NAMES,
+                random.getMapSeed()), new ArrayList<>(), random));
+    }
+
+    /**
+     * Creates a new GameController with a new game state generated from the given
+     * seed.
+     *
+     * @param seed the seed of the game
+     */
+    public GameController(long seed) {
+        this(new GameRandom(seed));
     }
 
     /**
      * Creates a new GameController with a new game state and a random dice
      * supplier.
+     * The game draws from {@link Config#RANDOM}. Use
+     * {@link #GameController(long)} for a game generated from its own seed.
      */
     public GameController() {
         this(new GameState(new HexGridImpl(Config.TOWN_NAMES), new ArrayList<>()),
                 () -> Config.RANDOM.nextInt(1, Config.DICE_SIDES + 1));
     }
 
+    /**
+     * Returns the sources of randomness of the given game state.
+     * Falls back to the {@linkplain GameRandom#shared() shared} sources of
+     * randomness if the state has none.
+     *
+     * @param state the game state
+     * @return the sources of randomness of the given game state
+     */
+    private static GameRandom randomOf(final GameState state) {
+        final GameRandom random = state.getRandom();
+        return random != null ? random : GameRandom.shared();
+    }
+
     /**
      * Returns the game state.
      *
@@ -81,6 +119,8 @@ public class GameController {
 
     /**
      * Returns a map from players to player controllers.
+     * The map iterates over the players in the order they joined the game, so
+     * games with the same seed let the players act in the same order.
      *
      * @return a map from players to player controllers
      */
@@ -308,15 +348,16 @@ public class GameController {
             if (availableCityPositions.size() >= 2) {
 
 
-                int randomStartCity = Config.RANDOM.nextInt(availableCityPositions.size());
+                final Random random = randomOf(getState()).getCityRandom();
+                int randomStartCity = random.nextInt(availableCityPositions.size());
                 City startCity = cities.get(availableCityPositions.get(randomStartCity));
 
-                int randomForFinishCity = Config.RANDOM.nextInt(availableCityPositions.size());
+                int randomForFinishCity = random.nextInt(availableCityPositions.size());
                 City finishCity = cities.get(availableCityPositions.get(randomForFinishCity));
 
                 if (finishCity.equals(startCity) == true) {
                     while (finishCity.equals(startCity) == true) {
-                        randomForFinishCity = Config.RANDOM.nextInt(availableCityPositions.size());
+                        randomForFinishCity = random.nextInt(availableCityPositions.size());
                         finishCity = cities.get(availableCityPositions.get(randomForFinishCity));
                     }
                 }
@@ -507,7 +548,7 @@ public class GameController {
             }
 
             int indexOfPlayer = (roundCounter.get()-1) % (getState().getPlayers().size());
-            PlayerController controllerOfPlayer = getPlayerControllers().get(indexOfPlayer);
+            PlayerController controllerOfPlayer = getPlayerControllers().get(getState().getPlayers().get(indexOfPlayer));
             controllerOfPlayer.setPlayerObjective(PlayerObjective.CHOOSE_CITIES);
 
             this.letPlayersChoosePath();
@@ -9,7 +9,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.LinkedBlockingDeque;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import hProjekt.model.*;
@@ -52,6 +51,12 @@ public class PlayerController {
 
     private boolean hasConfirmedPath = false;
 
+    private volatile long rentedEdgesVersion = 0;
+
+    private VersionedValue<Set<Edge>> chooseableEdges; // created on first use
+
+    private VersionedValue<Map<Tile, List<Tile>>> drivableTiles; // created on first use
+
     /**
      * Creates a new {@link PlayerController} with the given {@link GameController}
      * and {@link Player}.
@@ -105,6 +110,29 @@ public class PlayerController {
         return playerStateProperty.getValue();
     }
 
+    /**
+     * The version of everything the chooseable edges of a player depend on.
+     *
+     * @param rails   the version of the rails of the grid
+     * @param credits the credits of the player
+     * @param phase   the phase of the game
+     */
+    private record ChooseableEdgesVersion(long rails, int credits, GamePhase phase) {
+    }
+
+    /**
+     * The version of everything the drivable tiles of a driving player depend on.
+     *
+     * @param rentedEdges the number of changes to the rented edges
+     * @param rails       the version of the rails of the grid
+     * @param diceRoll    the current dice roll
+     * @param position    the position of the player
+     * @param targetCity  the city the player drives to
+     */
+    private record DrivableTilesVersion(long rentedEdges, long rails, int diceRoll, TilePosition position,
+            City targetCity) {
+    }
+
     /**
      * Updates the {@link #playerStateProperty} with the current
      * {@link PlayerState}.
@@ -195,6 +223,7 @@ public class PlayerController {
      */
     public void resetRentedEdges() {
         rentedEdges = new HashSet<>();
+        rentedEdgesVersion++;
     }
 
     /**
@@ -336,41 +365,48 @@ public class PlayerController {
     @StudentImplementationRequired("P2.1")
     public Set<Edge> getBuildableRails() {
         // TODO: P2.1
-       Set<Edge> buildableRails = new HashSet<>();
-
-       Map<Set<TilePosition>, Edge> railsOfPlayer = player.getRails();
-
-       Map<Set<TilePosition>,Edge> edges = getState().getGrid().getEdges();
-
-       if (railsOfPlayer.isEmpty() == true)
-       {
-           Map<TilePosition, City> startingCities = getState().getGrid().getStartingCities();
-
-           for (TilePosition position : startingCities.keySet())
-           {
-               for (Edge edge : edges.values())
-               {
-                   if((edge.getPosition1().equals(position) || edge.getPosition2().equals(position)) && canBuildRail(edge)==true)
-                   {
-                       buildableRails.add(edge);
-                   }
-               }
-           }
-       }
-       else
-       {
-           for (Edge playerEdge : railsOfPlayer.values())
-           {
-               for (Edge edge : edges.values())
-               {
-                   if (edge.connectsTo(playerEdge)== true && canBuildRail(edge)==true)
-                   {
-                       buildableRails.add(edge);
-                   }
-               }
-           }
-       }
-       return buildableRails;
+        final HexGrid grid = getState().getGrid();
+        final Set<Edge> candidates;
+        if (player.getRails().isEmpty()) {
+            final Set<TilePosition> startingCities = grid.getStartingCities().keySet();
+            candidates = new HashSet<>();
+            for (final Edge edge : grid.getEdges().values()) {
+                if (startingCities.contains(edge.getPosition1()) || startingCities.contains(edge.getPosition2())) {
+                    candidates.add(edge);
+                }
+            }
+        } else {
+            candidates = new HashSet<>();
+            for (final Edge rail : player.getRails().values()) {
+                candidates.addAll(rail.getConnectedEdges());
+            }
+        }
+
+        final Set<Edge> buildableRails = new HashSet<>();
+        for (final Edge edge : candidates) {
+            if (canBuildRail(edge)) {
+                buildableRails.add(edge);
+            }
+        }
+        return buildableRails;
+    }
+
+    /**
+     * Returns whether the given edge is next to the network of the player, or
+     * next to a starting city if the player has not built any rails yet.
+     * Together with {@link #canBuildRail(Edge)} this is equivalent to checking if
+     * the edge is contained in {@link #getBuildableRails()}, without computing
+     * all buildable rails.
+     *
+     * @param edge the edge to check
+     * @return {@code true} if the edge is next to the network of the player
+     */
+    private boolean isNextToNetwork(final Edge edge) {
+        if (player.getRails().isEmpty()) {
+            return edge.getAdjacentTilePositions().stream()
+                    .anyMatch(getState().getGrid().getStartingCities()::containsKey);
+        }
+        return edge.getConnectedEdges().stream().anyMatch(rail -> rail.getRailOwners().contains(player));
     }
 
     /**
@@ -387,7 +423,7 @@ public class PlayerController {
     {
         // TODO: P2.2
 
-        if (canBuildRail(edge)==false || getBuildableRails().contains(edge)==false)
+        if (canBuildRail(edge)==false || isNextToNetwork(edge)==false)
         {
             throw new IllegalActionException("Can't build Rail for edge " + edge);
         }
@@ -437,62 +473,84 @@ public class PlayerController {
 
 
     /**
-     * Builds rails on the given edges.
+     * Builds rails on the given edges in one transaction.
+     * The edges are validated one after another, so every edge may be next to an
+     * edge built earlier in the same list. If any edge cannot be built or building
+     * fails with any other exception, all rails built by this call are removed
+     * again and the credits of all players and the building budget are restored
+     * before the exception is thrown.
      *
      * @param edges the edges to build the rails on
      * @throws IllegalActionException if the player cannot build rails on the given
      *                                edges
      */
     public void buildRails(final List<Edge> edges) throws IllegalActionException {
-        Set<Edge> buildableRails = getBuildableRails();
-
-        if (buildableRails.isEmpty()) {
+        // only check whether the network can grow at all; every edge is validated by buildRail
+        final HexGrid grid = getState().getGrid();
+        if (player.getRails().isEmpty() ? grid.getStartingCities().isEmpty()
+                : grid.getRailFrontier(player).isEmpty()) {
             throw new IllegalActionException("Cannot build rails");
         }
 
-        for (Edge edge : edges) {
-            buildRail(edge);
+        final Map<Player, Integer> credits = getState().getPlayers().stream()
+                .collect(Collectors.toMap(p -> p, Player::getCredits));
+        final int budget = getBuildingBudget();
+        final List<Edge> builtRails = new ArrayList<>();
+        try {
+            for (Edge edge : edges) {
+                buildRail(edge);
+                builtRails.add(edge);
+            }
+        } catch (final IllegalActionException | RuntimeException e) {
+            builtRails.forEach(edge -> edge.removeRail(player));
+            credits.forEach((p, amount) -> {
+                if (p.getCredits() < amount) {
+                    p.addCredits(amount - p.getCredits());
+                } else {
+                    p.removeCredits(p.getCredits() - amount);
+                }
+            });
+            setBuildingBudget(budget);
+            throw e;
         }
     }
 
     /**
      * Returns all edges the player can choose to rent.
+     * The edges are cached until the rails of the grid, the credits of the
+     * player or the phase of the game change.
      *
-     * @return all edges the player can choose to rent
+     * @return all edges the player can choose to rent as an unmodifiable set
      */
     public Set<Edge> getChooseableEdges() {
-        if (player.getCredits() == 0 || !getState().getGamePhaseProperty().getValue().equals(GamePhase.DRIVING_PHASE)) {
-            return Set.of();
+        final long railVersion = getState().getGrid().getRailVersion();
+        if (railVersion < 0) {
+            return computeChooseableEdges();
         }
-
-        Set<Edge> builtEdges = getState().getGrid().getRails(player).values().stream().collect(Collectors.toSet());
-        Set<Edge> chooseableEdges = new HashSet<>();
-        chooseableEdges.addAll(builtEdges.stream()
-                .flatMap(edge -> edge.getConnectedEdges().stream().filter(Edge::hasRail)
-                        .filter(e -> !e.getRailOwners().contains(player)))
-                .distinct().toList());
-
-        if (chooseableEdges.isEmpty()) {
-            return chooseableEdges;
+        if (chooseableEdges == null) {
+            chooseableEdges = new VersionedValue<>(this::computeChooseableEdges);
         }
+        return chooseableEdges.get(new ChooseableEdgesVersion(railVersion, player.getCredits(),
+                getState().getGamePhaseProperty().getValue()));
+    }
 
-        final List<Pair<Edge, Integer>> edgeQueue = new ArrayList<>(
-                chooseableEdges.stream().map(edge -> new Pair<>(edge, 1)).toList());
-        while (!edgeQueue.isEmpty()) {
-            final Pair<Edge, Integer> currentPair = edgeQueue.removeFirst();
-            for (Edge edge : currentPair.getKey().getConnectedEdges().stream()
-                    .filter(Edge::hasRail)
-                    .filter(edge -> !edge.getRailOwners().contains(player))
-                    .filter(Predicate.not(chooseableEdges::contains)).toList()) {
-                int newDistance = currentPair.getValue() + 1;
-                if (newDistance <= Math.min(player.getCredits(), Config.MAX_RENTABLE_DISTANCE)) {
-                    edgeQueue.add(new Pair<>(edge, newDistance));
-                    chooseableEdges.add(edge);
-                }
-            }
+    /**
+     * Computes all edges the player can choose to rent.
+     * These are the rails of other players reachable from the rails of the player
+     * over at most as many rails of other players as the player has credits, but
+     * no more than {@link Config#MAX_RENTABLE_DISTANCE}.
+     *
+     * Unlike {@link #getChooseableEdges()} this always searches the grid.
+     *
+     * @return all edges the player can choose to rent as an unmodifiable set
+     */
+    Set<Edge> computeChooseableEdges() {
+        if (player.getCredits() == 0 || !getState().getGamePhaseProperty().getValue().equals(GamePhase.DRIVING_PHASE)) {
+            return Set.of();
         }
 
-        return chooseableEdges;
+        return Collections.unmodifiableSet(getState().getGrid().getRentableRails(player,
+                Math.min(player.getCredits(), Config.MAX_RENTABLE_DISTANCE)));
     }
 
     /**
@@ -528,12 +586,14 @@ public class PlayerController {
                 (from, to) -> getState().getGrid().getEdge(from, to).getDrivingCost(from));
         if (pathEdges.isEmpty()) {
             rentedEdges = new HashSet<>();
+            rentedEdgesVersion++;
             return;
         }
 
         hasPath = true;
         rentedEdges = pathEdges.stream().filter(edge -> !edge.getRailOwners().contains(player))
                 .collect(Collectors.toSet());
+        rentedEdgesVersion++;
     }
 
     /**
@@ -557,6 +617,7 @@ public class PlayerController {
         if (!confirm) {
             hasConfirmedPath = false;
             rentedEdges = new HashSet<>();
+            rentedEdgesVersion++;
             return;
         }
 
@@ -606,7 +667,27 @@ public class PlayerController {
         if (!canDrive()) {
             return Map.of();
         }
+        final long railVersion = getState().getGrid().getRailVersion();
+        if (railVersion < 0) {
+            return computeDrivableTiles();
+        }
+        if (drivableTiles == null) {
+            drivableTiles = new VersionedValue<>(this::computeDrivableTiles);
+        }
+        return drivableTiles.get(new DrivableTilesVersion(rentedEdgesVersion, railVersion,
+                gameController.getCurrentDiceRoll(), getState().getPlayerPositions().get(player),
+                gameController.getTargetCity()));
+    }
 
+    /**
+     * Computes the tiles the player can drive to and the paths to them.
+     * The player has to be able to drive.
+     *
+     * @return an unmodifiable map of drivable tiles and the path to drive to the
+     *         target tile
+     * @see #getDrivableTiles()
+     */
+    private Map<Tile, List<Tile>> computeDrivableTiles() {
         final Set<Edge> allAvailableEdges = List.of(getState().getGrid().getRails(player).values(), rentedEdges)
                 .stream()
                 .flatMap(set -> set.stream())
@@ -657,7 +738,7 @@ public class PlayerController {
             }
             visitedNodes.add(currentPair.getKey());
         }
-        return drivableTiles;
+        return Collections.unmodifiableMap(drivableTiles);
     }
 
     /**
@@ -0,0 +1,42 @@
+package hProjekt.controller;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A value derived from the game that is computed on first access and memoized
+ * until the version of the game it was computed for changes.
+ *
+ * @param <T> the type of the value
+ */
+final class VersionedValue<T> {
+    private final Supplier<? extends T> supplier;
+    private boolean computed;
+    private Object version;
+    private T value;
+
+    /**
+     * Creates a new versioned value computed by the given supplier.
+     *
+     * @param supplier the supplier computing the value from the current game
+     */
+    VersionedValue(final Supplier<? extends T> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Returns the value for the given version, computing it only if it has not
+     * been computed for that version yet.
+     *
+     * @param version the current version of the game
+     * @return the value for the given version
+     */
+    synchronized T get(final Object version) {
+        if (!computed || !Objects.equals(this.version, version)) {
+            value = supplier.get();
+            this.version = version;
+            computed = true;
+        }
+        return value;
+    }
+}
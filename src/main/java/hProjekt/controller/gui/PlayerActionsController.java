@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import hProjekt.controller.actions.*;
@@ -18,6 +19,7 @@ import hProjekt.controller.PlayerController;
 import hProjekt.controller.PlayerObjective;
 import hProjekt.controller.gui.scene.GameBoardController;
 import hProjekt.model.Edge;
+import hProjekt.model.PathTree;
 import hProjekt.model.Player;
 import hProjekt.model.PlayerState;
 import hProjekt.model.Tile;
@@ -63,6 +65,10 @@ public class PlayerActionsController {
     private final Property<Tile> selectedTile = new SimpleObjectProperty<>();
     private Subscription selectedTileSubscription = Subscription.EMPTY;
     private ObservableList<Edge> selectedRailPath = FXCollections.observableArrayList();
+    private Function<Tile, PathTree> pathTreeFunction = tile -> target -> List.of();
+    private PathTree selectedTilePathTree;
+    private long selectedTilePathTreeRailVersion;
+    private PlayerState selectedTilePathTreeState;
     private final ListChangeListener<Edge> selectedRailPathListener = (change) -> {
         getHexGridController().getEdgeControllers().forEach(EdgeController::hideLabel);
         change.getList().forEach(edge -> {
@@ -365,22 +371,57 @@ public class PlayerActionsController {
     }
 
     /**
-     * Finds the path between the hovered tile and the selected tile based on all
-     * edges in the grid.
+     * Finds the paths from the selected tile to all other tiles based on all edges
+     * in the grid.
      *
-     * @param hoveredTile  the hovered/start tile
-     * @param selectedTile the selected/target tile
-     * @return the path between the hovered and selected tile
+     * @param selectedTile the selected/start tile
+     * @return the paths starting at the selected tile
      */
-    private List<Edge> findBuildPath(Tile hoveredTile, Tile selectedTile) {
-        return getHexGridController().getHexGrid().findPath(
+    private PathTree findBuildPathTree(Tile selectedTile) {
+        return getHexGridController().getHexGrid().findPathTree(
                 selectedTile.getPosition(),
-                hoveredTile.getPosition(),
                 getHexGridController().getHexGrid().getEdges().values().stream()
                         .collect(Collectors.toSet()),
                 this::drivingCostFunction);
     }
 
+    /**
+     * Returns the path from the selected tile to the hovered tile.
+     * The paths starting at the selected tile are computed once when the tile is
+     * selected and recomputed only if the rails or the player state have changed
+     * since then.
+     *
+     * @param hoveredTile  the hovered/target tile
+     * @param selectedTile the selected/start tile
+     * @return the path between the selected and hovered tile
+     */
+    private List<Edge> findSelectedTilePath(Tile hoveredTile, Tile selectedTile) {
+        final long railVersion = getHexGridController().getHexGrid().getRailVersion();
+        if (selectedTilePathTree == null || railVersion < 0 || selectedTilePathTreeRailVersion != railVersion
+                || selectedTilePathTreeState != getPlayerState()) {
+            updateSelectedTilePathTree(selectedTile);
+        }
+        return selectedTilePathTree.getPath(hoveredTile.getPosition());
+    }
+
+    /**
+     * Computes the paths starting at the given tile with the current
+     * {@link #pathTreeFunction}.
+     *
+     * @param selectedTile the selected/start tile or {@code null} to clear the
+     *                     paths
+     */
+    private void updateSelectedTilePathTree(Tile selectedTile) {
+        if (selectedTile == null) {
+            selectedTilePathTree = null;
+            selectedTilePathTreeState = null;
+            return;
+        }
+        selectedTilePathTreeRailVersion = getHexGridController().getHexGrid().getRailVersion();
+        selectedTilePathTreeState = getPlayerState();
+        selectedTilePathTree = pathTreeFunction.apply(selectedTile);
+    }
+
     /**
      * Limits the given path with the given function and highlights it.
      *
@@ -515,7 +556,7 @@ public class PlayerActionsController {
 
         setupTileSelectionHandlers(
             (tileController, startTile) -> {
-                List<Edge> path = findBuildPath(startTile, tileController.getTile());
+                List<Edge> path = findSelectedTilePath(tileController.getTile(), startTile);
 
                 if (path.isEmpty()) {
                     return;
@@ -536,7 +577,8 @@ public class PlayerActionsController {
                     getPlayerController().triggerAction(new BuildRailAction(selectedRailPath));
                 }
             },
-            Set.of()
+            Set.of(),
+            this::findBuildPathTree
         );
     }
 
@@ -553,27 +595,37 @@ public class PlayerActionsController {
      * Highlights the tiles that can be selected by the player and sets up the other
      * tiles so they can be hovered and selected.
      *
-     * @param handleTileHover the function that is called when a tile is hovered
-     * @param handleTileClick the function that is called when a tile is clicked
+     * @param handleTileHover  the function that is called when a tile is hovered
+     * @param handleTileClick  the function that is called when a tile is clicked
+     * @param pathTreeFunction the function that computes the paths from the
+     *                         selected tile
      */
     private void setupTileSelectionHandlers(BiConsumer<TileController, Tile> handleTileHover,
-            Consumer<TileController> handleTileClick) {
-        setupTileSelectionHandlers(handleTileHover, handleTileClick, Set.of());
+            Consumer<TileController> handleTileClick, Function<Tile, PathTree> pathTreeFunction) {
+        setupTileSelectionHandlers(handleTileHover, handleTileClick, Set.of(), pathTreeFunction);
     }
 
     /**
      * Highlights the tiles that can be selected by the player and sets up the other
      * tiles so the player can buld rails to them.
      * Also unhighlights all edges except the given highlighted edges.
+     * The paths from a selected tile are computed once with the given function
+     * when the tile is selected.
      *
      * @param handleTileHover  the function that is called when a tile is hovered
      * @param handleTileClick  the function that is called when a tile is clicked
      * @param highlightedEdges the edges that are already highlighted
+     * @param pathTreeFunction the function that computes the paths from the
+     *                         selected tile
      */
     private void setupTileSelectionHandlers(BiConsumer<TileController, Tile> handleTileHover,
-            Consumer<TileController> handleTileClick, Set<Edge> highlightedEdges) {
+            Consumer<TileController> handleTileClick, Set<Edge> highlightedEdges,
+            Function<Tile, PathTree> pathTreeFunction) {
         highlightStartingTiles();
+        this.pathTreeFunction = pathTreeFunction;
+        updateSelectedTilePathTree(null);
         selectedTileSubscription = selectedTile.subscribe((oldValue, newValue) -> {
+            updateSelectedTilePathTree(newValue);
             if (newValue == null) {
                 getHexGridController().getEdgeControllers().stream()
                         .filter(ec -> !highlightedEdges.contains(ec.getEdge()))
@@ -597,15 +649,14 @@ public class PlayerActionsController {
     }
 
     /**
-     * Finds the path between the hovered tile and the selected tile based on the
+     * Finds the paths from the selected tile to all other tiles based on the
      * chooseable edges and the player rails.
      *
-     * @param hoveredTile  the hovered tile
      * @param selectedTile the selected tile
-     * @return the path between the hovered and selected tile
+     * @return the paths starting at the selected tile
      */
-    private List<Edge> findChoosenEdgesPath(Tile hoveredTile, Tile selectedTile) {
-        return getHexGridController().getHexGrid().findPath(selectedTile.getPosition(), hoveredTile.getPosition(),
+    private PathTree findChoosenEdgesPathTree(Tile selectedTile) {
+        return getHexGridController().getHexGrid().findPathTree(selectedTile.getPosition(),
                 Set.of(getPlayerState().choosableEdges(), getPlayer()
                         .getRails().values()).stream().flatMap(set -> set.stream()).collect(Collectors.toSet()),
                 this::drivingCostFunction);
@@ -628,8 +679,8 @@ public class PlayerActionsController {
                     distance += selectedEdges.size();
                     return distance > Config.MAX_RENTABLE_DISTANCE || distance > getPlayer().getCredits();
                 },
-                findChoosenEdgesPath(tc.getTile(), selectedTile), selectedEdges),
-                tc -> selectedEdges.addAll(selectedRailPath), selectedEdges);
+                findSelectedTilePath(tc.getTile(), selectedTile), selectedEdges),
+                tc -> selectedEdges.addAll(selectedRailPath), selectedEdges, this::findChoosenEdgesPathTree);
     }
 
     /**
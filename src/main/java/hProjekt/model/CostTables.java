@@ -0,0 +1,150 @@
+package hProjekt.model;
+
+import java.util.Map;
+import java.util.Set;
+
+import hProjekt.Config;
+import javafx.util.Pair;
+
+/**
+ * Compiled form of {@link Config#TILE_TYPE_TO_BUILDING_COST} and
+ * {@link Config#TILE_TYPE_TO_DRIVING_COST}.
+ * The costs are stored in small {@code int[][]} tables indexed by the ordinals
+ * of the {@link Tile.Type}s, so looking them up does not allocate any keys.
+ * The tables are recompiled automatically when one of the maps in
+ * {@link Config} is replaced.
+ */
+public final class CostTables {
+    private static volatile CostTables current;
+
+    private final Map<Set<Tile.Type>, Integer> buildingCostMap;
+    private final Map<Pair<Tile.Type, Tile.Type>, Integer> drivingCostMap;
+    private final int[][] buildingCosts;
+    private final int[][] drivingCosts;
+    private final int minimumDrivingCost;
+
+    /**
+     * Compiles the given cost maps.
+     *
+     * @param buildingCostMap the building costs
+     * @param drivingCostMap  the driving costs
+     */
+    private CostTables(final Map<Set<Tile.Type>, Integer> buildingCostMap,
+            final Map<Pair<Tile.Type, Tile.Type>, Integer> drivingCostMap) {
+        this.buildingCostMap = buildingCostMap;
+        this.drivingCostMap = drivingCostMap;
+        final Tile.Type[] types = Tile.Type.values();
+        this.buildingCosts = new int[types.length][types.length];
+        this.drivingCosts = new int[types.length][types.length];
+        int minimumDrivingCost = Integer.MAX_VALUE;
+        for (final Tile.Type from : types) {
+            for (final Tile.Type to : types) {
+                final Integer buildingCost = buildingCostMap.get(from == to ? Set.of(from) : Set.of(from, to));
+                final Integer drivingCost = drivingCostMap.get(new Pair<>(from, to));
+                buildingCosts[from.ordinal()][to.ordinal()] = buildingCost == null ? -1 : buildingCost;
+                drivingCosts[from.ordinal()][to.ordinal()] = drivingCost == null ? -1 : drivingCost;
+                if (drivingCost != null) {
+                    minimumDrivingCost = Math.min(minimumDrivingCost, drivingCost);
+                }
+            }
+        }
+        this.minimumDrivingCost = minimumDrivingCost == Integer.MAX_VALUE ? 0 : Math.max(0, minimumDrivingCost);
+    }
+
+    /**
+     * Returns the tables compiled from the current cost maps in {@link Config}.
+     * Recompiles the tables if one of the maps has been replaced since the last
+     * call.
+     *
+     * @return the current cost tables
+     */
+    public static CostTables current() {
+        final CostTables tables = current;
+        if (tables == null || tables.buildingCostMap != Config.TILE_TYPE_TO_BUILDING_COST
+                || tables.drivingCostMap != Config.TILE_TYPE_TO_DRIVING_COST) {
+            return recompile();
+        }
+        return tables;
+    }
+
+    /**
+     * Compiles the current cost maps in {@link Config}.
+     * Replaced maps are picked up by {@link #current()} on their own, so this only
+     * has to be called to force a recompilation.
+     *
+     * @return the new cost tables
+     */
+    public static CostTables recompile() {
+        final CostTables tables = new CostTables(Config.TILE_TYPE_TO_BUILDING_COST, Config.TILE_TYPE_TO_DRIVING_COST);
+        current = tables;
+        return tables;
+    }
+
+    /**
+     * Returns the cost of building a rail between tiles of the given types or
+     * {@code -1} if no cost is configured.
+     *
+     * @param type1 the type of the first tile
+     * @param type2 the type of the second tile
+     * @return the cost of building a rail between the given types or {@code -1}
+     */
+    int findBuildingCost(final Tile.Type type1, final Tile.Type type2) {
+        return buildingCosts[type1.ordinal()][type2.ordinal()];
+    }
+
+    /**
+     * Returns the cost of driving from a tile of the first type to a tile of the
+     * second type or {@code -1} if no cost is configured.
+     *
+     * @param from the type of the tile the player is coming from
+     * @param to   the type of the tile the player is driving to
+     * @return the cost of driving between the given types or {@code -1}
+     */
+    int findDrivingCost(final Tile.Type from, final Tile.Type to) {
+        return drivingCosts[from.ordinal()][to.ordinal()];
+    }
+
+    /**
+     * Returns the cost of building a rail between tiles of the given types.
+     *
+     * @param type1 the type of the first tile
+     * @param type2 the type of the second tile
+     * @return the cost of building a rail between the given types
+     * @throws IllegalStateException if no cost is configured for the given types
+     */
+    public int getBuildingCost(final Tile.Type type1, final Tile.Type type2) {
+        final int cost = findBuildingCost(type1, type2);
+        if (cost < 0) {
+            throw new IllegalStateException("No building cost configured for " + type1 + " and " + type2);
+        }
+        return cost;
+    }
+
+    /**
+     * Returns the cost of driving from a tile of the first type to a tile of the
+     * second type.
+     *
+     * @param from the type of the tile the player is coming from
+     * @param to   the type of the tile the player is driving to
+     * @return the cost of driving between the given types
+     * @throws IllegalStateException if no cost is configured for the given types
+     */
+    public int getDrivingCost(final Tile.Type from, final Tile.Type to) {
+        final int cost = findDrivingCost(from, to);
+        if (cost < 0) {
+            throw new IllegalStateException("No driving cost configured from " + from + " to " + to);
+        }
+        return cost;
+    }
+
+    /**
+     * Returns the smallest configured driving cost.
+     * Can be used as lower bound for the cost of driving along any edge.
+     *
+     * @return the smallest configured driving cost or {@code 0} if none is
+     *         configured
+     */
+    public int getMinimumDrivingCost() {
+        return minimumDrivingCost;
+    }
+}
@@ -128,6 +128,23 @@ public interface Edge {
      */
     Map<Player, Integer> getParallelCostPerPlayer(Player player);
 
+    /**
+     * Returns the credits that need to be paid to each player that has already
+     * built on this edge, indexed by the id of the receiving player.
+     * Players that do not receive any credits have an entry of {@code 0}.
+     * The returned array must not be modified.
+     *
+     * @param player the player to calculate the parallel cost for
+     * @return the credits that need to be paid to each player, indexed by player
+     *         id
+     */
+    default int[] getParallelCostsByPlayerId(Player player) {
+        final Map<Player, Integer> parallelCost = getParallelCostPerPlayer(player);
+        final int[] result = new int[parallelCost.keySet().stream().mapToInt(Player::getID).max().orElse(-1) + 1];
+        parallelCost.forEach((p, cost) -> result[p.getID()] = cost);
+        return result;
+    }
+
     /**
      * Returns the total sum of credits that needs to be paid by the player to other
      * players
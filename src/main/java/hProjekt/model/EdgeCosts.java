@@ -0,0 +1,107 @@
+package hProjekt.model;
+
+/**
+ * Caches the base building cost and both directional driving costs of every
+ * edge in a {@link GridIndex}, computed from a specific set of
+ * {@link CostTables}.
+ */
+final class EdgeCosts {
+    private final GridIndex index;
+    private final CostTables tables;
+    private final int[] baseBuildingCosts;
+    private final int[] forwardDrivingCosts;
+    private final int[] backwardDrivingCosts;
+
+    /**
+     * Computes the costs of all edges in the given index.
+     * Costs that are not configured are stored as {@code -1}.
+     *
+     * @param index  the index containing the edges
+     * @param tables the cost tables to use
+     */
+    EdgeCosts(final GridIndex index, final CostTables tables) {
+        this.index = index;
+        this.tables = tables;
+        this.baseBuildingCosts = new int[index.edgeCount()];
+        this.forwardDrivingCosts = new int[index.edgeCount()];
+        this.backwardDrivingCosts = new int[index.edgeCount()];
+        for (int id = 0; id < index.edgeCount(); id++) {
+            final Tile.Type type1 = getType1(id);
+            final Tile.Type type2 = getType2(id);
+            if (type1 == null || type2 == null) {
+                baseBuildingCosts[id] = -1;
+                forwardDrivingCosts[id] = -1;
+                backwardDrivingCosts[id] = -1;
+                continue;
+            }
+            baseBuildingCosts[id] = tables.findBuildingCost(type1, type2);
+            forwardDrivingCosts[id] = tables.findDrivingCost(type1, type2);
+            backwardDrivingCosts[id] = tables.findDrivingCost(type2, type1);
+        }
+    }
+
+    /**
+     * Returns the type of the tile at the first position of the edge with the
+     * given id.
+     *
+     * @param id the id of the edge
+     * @return the type of the first tile or {@code null} if there is no tile
+     */
+    private Tile.Type getType1(final int id) {
+        final Tile tile = index.getTile(index.tileIndex(index.getEdge(id).getPosition1()));
+        return tile == null ? null : tile.getType();
+    }
+
+    /**
+     * Returns the type of the tile at the second position of the edge with the
+     * given id.
+     *
+     * @param id the id of the edge
+     * @return the type of the second tile or {@code null} if there is no tile
+     */
+    private Tile.Type getType2(final int id) {
+        final Tile tile = index.getTile(index.tileIndex(index.getEdge(id).getPosition2()));
+        return tile == null ? null : tile.getType();
+    }
+
+    /**
+     * Returns whether this cache has been computed for the given index and tables.
+     *
+     * @param index  the index
+     * @param tables the cost tables
+     * @return whether this cache is up to date
+     */
+    boolean isFor(final GridIndex index, final CostTables tables) {
+        return this.index == index && this.tables == tables;
+    }
+
+    /**
+     * Returns the base building cost of the edge with the given id.
+     *
+     * @param id the id of the edge
+     * @return the base building cost of the edge
+     * @throws IllegalStateException if no cost is configured for the edge
+     */
+    int getBaseBuildingCost(final int id) {
+        final int cost = baseBuildingCosts[id];
+        return cost < 0 ? tables.getBuildingCost(getType1(id), getType2(id)) : cost;
+    }
+
+    /**
+     * Returns the cost of driving along the edge with the given id.
+     *
+     * @param id            the id of the edge
+     * @param fromPosition1 whether the player is coming from the first position
+     *                      of the edge
+     * @return the driving cost of the edge in the given direction
+     * @throws IllegalStateException if no cost is configured for the edge
+     */
+    int getDrivingCost(final int id, final boolean fromPosition1) {
+        final int cost = fromPosition1 ? forwardDrivingCosts[id] : backwardDrivingCosts[id];
+        if (cost >= 0) {
+            return cost;
+        }
+        return fromPosition1 ? tables.getDrivingCost(getType1(id), getType2(id))
+                : tables.getDrivingCost(getType2(id), getType1(id));
+    }
+}
@@ -7,9 +7,7 @@ import java.util.stream.Stream;
 
 import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
 
-import hProjekt.Config;
 import javafx.beans.property.Property;
-import javafx.util.Pair;
 
 /**
  * Default implementation of {@link Edge}.
@@ -21,6 +19,23 @@ import javafx.util.Pair;
  */
 public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition position2, Property<List<Player>> railOwners)
         implements Edge {
+    /**
+     * Returns the {@link GridIndex} of the grid this edge is placed in or
+     * {@code null} if the grid is not indexed or the index does not contain this
+     * edge.
+     *
+     * @return the {@link GridIndex} containing this edge or {@code null}
+     */
+    private GridIndex gridIndex() {
+        if (grid instanceof HexGridImpl hexGrid) {
+            final GridIndex index = hexGrid.index();
+            if (index.edgeId(this) >= 0) {
+                return index;
+            }
+        }
+        return null;
+    }
+
     @Override
     public HexGrid getHexGrid() {
         return grid;
@@ -45,23 +60,19 @@ public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition positi
     @StudentImplementationRequired("P1.3")
     public Set<Edge> getConnectedRails(final Player player) {
         // TODO: P1.3
-       Map<Set<TilePosition>, Edge> rails = player.getRails();
-
-       Set<Edge> connectedRails = new HashSet<>();
-
-       for (Map.Entry<Set<TilePosition>, Edge> entry : rails.entrySet())
-       {
-           Edge edge = entry.getValue();
-
-           if (this.connectsTo(edge)==true)
-           {
-               connectedRails.add(edge);
-           }
-       }
-
-       return connectedRails;
-
-
+        final GridIndex index = gridIndex();
+        if (index == null) {
+            return player.getRails().values().stream().filter(this::connectsTo).collect(Collectors.toSet());
+        }
+        final int id = index.edgeId(this);
+        final Set<Edge> connectedRails = new HashSet<>();
+        for (int i = index.connectedEdgesStart(id); i < index.connectedEdgesStart(id + 1); i++) {
+            final Edge edge = index.getEdge(index.connectedEdgeId(i));
+            if (edge.getRailOwners().contains(player)) {
+                connectedRails.add(edge);
+            }
+        }
+        return connectedRails;
     }
 
     @Override
@@ -74,12 +85,16 @@ public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition positi
 
     @Override
     public int getDrivingCost(TilePosition from) {
-        if (!getAdjacentTilePositions().contains(from)) {
+        final boolean fromPosition1 = getPosition1().equals(from);
+        if (!fromPosition1 && !getPosition2().equals(from)) {
             throw new IllegalArgumentException("The given position is not adjacent to this edge.");
         }
-        return Config.TILE_TYPE_TO_DRIVING_COST.get(new Pair<Tile.Type, Tile.Type>(
-                getHexGrid().getTileAt(from).getType(),
-                getHexGrid().getTileAt(getPosition1().equals(from) ? getPosition2() : getPosition1()).getType()));
+        final GridIndex index = gridIndex();
+        if (index != null) {
+            return ((HexGridImpl) grid).edgeCosts().getDrivingCost(index.edgeId(this), fromPosition1);
+        }
+        return CostTables.current().getDrivingCost(getHexGrid().getTileAt(from).getType(),
+                getHexGrid().getTileAt(fromPosition1 ? getPosition2() : getPosition1()).getType());
     }
 
     @Override
@@ -89,11 +104,53 @@ public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition positi
 
     @Override
     public int getTotalParallelCost(Player player) {
-        return getParallelCostPerPlayer(player).values().stream().reduce(0, Integer::sum);
+        int total = 0;
+        for (final int cost : getParallelCostsByPlayerId(player)) {
+            total += cost;
+        }
+        return total;
+    }
+
+    @Override
+    public int[] getParallelCostsByPlayerId(Player player) {
+        final GridIndex index = gridIndex();
+        if (index != null) {
+            final int[] costs = ((HexGridImpl) grid).parallelCosts().getCosts(index.edgeId(this), player);
+            if (costs != null) {
+                return costs;
+            }
+        }
+        return Edge.super.getParallelCostsByPlayerId(player);
     }
 
     @Override
     public Map<Player, Integer> getParallelCostPerPlayer(Player player) {
+        final GridIndex index = gridIndex();
+        if (index != null) {
+            final int id = index.edgeId(this);
+            final ParallelCosts parallelCosts = ((HexGridImpl) grid).parallelCosts();
+            final int[] costs = parallelCosts.getCosts(id, player);
+            if (costs != null) {
+                final Map<Player, Integer> result = new HashMap<>();
+                for (int playerId = 0; playerId < costs.length; playerId++) {
+                    if (costs[playerId] > 0) {
+                        result.put(parallelCosts.getPlayer(id, playerId), costs[playerId]);
+                    }
+                }
+                return result;
+            }
+        }
+        return computeParallelCostPerPlayer(player);
+    }
+
+    /**
+     * Computes the parallel costs of this edge without using the cache of the
+     * grid.
+     *
+     * @param player the player to calculate the parallel cost for
+     * @return a map of players and the credits that need to be paid to them
+     */
+    private Map<Player, Integer> computeParallelCostPerPlayer(Player player) {
         final Map<Player, Integer> result = new HashMap<>();
         if ((!getRailOwners().isEmpty()) && (!((getRailOwners().size() == 1) && getRailOwners().contains(player)))) {
             if (Collections.disjoint(getHexGrid().getCities().keySet(), getAdjacentTilePositions())) {
@@ -119,8 +176,12 @@ public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition positi
 
     @Override
     public int getBaseBuildingCost() {
-        return Config.TILE_TYPE_TO_BUILDING_COST.get(getAdjacentTilePositions().stream()
-                .map(position -> getHexGrid().getTileAt(position).getType()).collect(Collectors.toUnmodifiableSet()));
+        final GridIndex index = gridIndex();
+        if (index != null) {
+            return ((HexGridImpl) grid).edgeCosts().getBaseBuildingCost(index.edgeId(this));
+        }
+        return CostTables.current().getBuildingCost(getHexGrid().getTileAt(getPosition1()).getType(),
+                getHexGrid().getTileAt(getPosition2()).getType());
     }
 
     @Override
@@ -130,43 +191,40 @@ public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition positi
 
     @Override
     public boolean removeRail(Player player) {
-        return getRailOwnersProperty().getValue().remove(player);
+        final boolean removed = getRailOwnersProperty().getValue().remove(player);
+        if (removed) {
+            notifyRailOwnersChanged();
+        }
+        return removed;
     }
 
     @Override
     @StudentImplementationRequired("P1.3")
     public boolean addRail(Player player) {
         // TODO: P1.3
-        Map<Set<TilePosition>, Edge> rails = player.getRails();
-
-        boolean added = false;
-
-        if (rails.isEmpty()==false) {
-
-            if (this.hasRail() == false) {
-               if (player.getHexGrid().getCityAt(this.getPosition1())!=null || player.getHexGrid().getCityAt(this.getPosition2())!=null)
-               {
-                   if (player.getHexGrid().getCityAt(this.getPosition1()).isStartingCity()==true || player.getHexGrid().getCityAt(this.getPosition2()).isStartingCity()==true)
-                   {
-                       added = true;
-                   }
-               }
-               else
-               {
-                   added = false;
-               }
-            }
-            else {
-                Set<Edge> connectedRails = getConnectedRails(player);
-                for (Edge edge : connectedRails) {
-                    if (this.connectsTo(edge) == true) {
-                        added = true;
-                        break;
-                    }
-                }
+        if (getRailOwners().contains(player)) {
+            return false;
+        }
+        if (player.getRails().isEmpty()) {
+            if (getAdjacentTilePositions().stream().map(getHexGrid()::getCityAt)
+                    .noneMatch(city -> city != null && city.isStartingCity())) {
+                return false;
             }
+        } else if (getConnectedRails(player).isEmpty()) {
+            return false;
+        }
+        getRailOwners().add(player);
+        notifyRailOwnersChanged();
+        return true;
+    }
+
+    /**
+     * Notifies the grid that the rail owners of this edge were modified in place.
+     */
+    private void notifyRailOwnersChanged() {
+        if (grid instanceof HexGridImpl hexGrid) {
+            hexGrid.railOwnersChanged(this);
         }
-        return added;
     }
 
     @Override
@@ -197,19 +255,17 @@ public record EdgeImpl(HexGrid grid, TilePosition position1, TilePosition positi
     @StudentImplementationRequired("P1.3")
     public Set<Edge> getConnectedEdges() {
         // TODO: P1.3
-        Set<Edge> connectedEdges = new HashSet<>();
-        Map<Set<TilePosition>, Edge> allEdges = getHexGrid().getEdges();
-
-        for (Edge edge : allEdges.values())
-        {
-            if(this.connectsTo(edge) == true)
-            {
-                connectedEdges.add(edge);
-            }
+        final GridIndex index = gridIndex();
+        if (index != null) {
+            return index.getConnectedEdges(index.edgeId(this));
         }
+        return getHexGrid().getEdges().values().stream().filter(this::connectsTo).collect(Collectors.toSet());
+    }
 
-
-        return connectedEdges;
+    @Override
+    public int hashCode() {
+        // the grid and the rail owner property only have identity hash codes
+        return 31 * position1.hashCode() + position2.hashCode();
     }
 
     @Override
@@ -0,0 +1,149 @@
+package hProjekt.model;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import hProjekt.Config;
+
+/**
+ * The sources of randomness of a single game.
+ * Every consumer gets its own {@link Random} derived from the seed of the game,
+ * so games running at the same time do not share any random state and a game
+ * can be replayed exactly from its seed.
+ */
+public final class GameRandom {
+    private static final GameRandom SHARED = new GameRandom(Config.RANDOM);
+
+    private final boolean seeded;
+    private final long seed;
+    private final long mapSeed;
+    private final Random diceRandom;
+    private final Random cityRandom;
+    private final Random colorRandom;
+    private final Random aiRandom;
+
+    /**
+     * Creates the sources of randomness for a game with the given seed.
+     *
+     * @param seed the seed of the game
+     */
+    public GameRandom(final long seed) {
+        this.seeded = true;
+        this.seed = seed;
+        final SplittableRandom random = new SplittableRandom(seed);
+        this.mapSeed = random.nextLong();
+        this.diceRandom = new Random(random.nextLong());
+        this.cityRandom = new Random(random.nextLong());
+        this.colorRandom = new Random(random.nextLong());
+        this.aiRandom = new Random(random.nextLong());
+    }
+
+    /**
+     * Creates sources of randomness that all draw from the given random.
+     *
+     * @param random the random to draw from
+     */
+    private GameRandom(final Random random) {
+        this.seeded = false;
+        this.seed = 0;
+        this.mapSeed = 0;
+        this.diceRandom = random;
+        this.cityRandom = random;
+        this.colorRandom = random;
+        this.aiRandom = random;
+    }
+
+    /**
+     * Returns the sources of randomness that all draw from {@link Config#RANDOM},
+     * as every game did before games got their own seed.
+     * They have no seed, so a game using them cannot be replayed from a seed.
+     *
+     * @return the sources of randomness drawing from {@link Config#RANDOM}
+     */
+    public static GameRandom shared() {
+        return SHARED;
+    }
+
+    /**
+     * Creates the sources of randomness for a game with a random seed taken from
+     * {@link Config#RANDOM}.
+     *
+     * @return the sources of randomness for a new game
+     */
+    public static GameRandom withRandomSeed() {
+        return new GameRandom(Config.RANDOM.nextLong());
+    }
+
+    /**
+     * Returns the seed of the game.
+     *
+     * @return the seed of the game
+     * @throws IllegalStateException if these are the {@linkplain #shared() shared}
+     *                               sources of randomness
+     */
+    public long getSeed() {
+        checkSeeded();
+        return seed;
+    }
+
+    /**
+     * Returns the seed used to generate the map, including the city names.
+     *
+     * @return the seed of the map
+     * @throws IllegalStateException if these are the {@linkplain #shared() shared}
+     *                               sources of randomness
+     * @see HexGridImpl#HexGridImpl(int, int, String[], long)
+     */
+    public long getMapSeed() {
+        checkSeeded();
+        return mapSeed;
+    }
+
+    /**
+     * Checks that these sources of randomness have been created from a seed.
+     *
+     * @throws IllegalStateException if these are the {@linkplain #shared() shared}
+     *                               sources of randomness
+     */
+    private void checkSeeded() {
+        if (!seeded) {
+            throw new IllegalStateException("The shared sources of randomness have no seed");
+        }
+    }
+
+    /**
+     * Returns the random used to roll the dice.
+     *
+     * @return the random used to roll the dice
+     */
+    public Random getDiceRandom() {
+        return diceRandom;
+    }
+
+    /**
+     * Returns the random used to choose the starting and target cities.
+     *
+     * @return the random used to choose the cities
+     */
+    public Random getCityRandom() {
+        return cityRandom;
+    }
+
+    /**
+     * Returns the random used to choose the colors of players without a color.
+     *
+     * @return the random used to choose the player colors
+     */
+    public Random getColorRandom() {
+        return colorRandom;
+    }
+
+    /**
+     * Returns the random used by the AI controllers.
+     *
+     * @return the random used by the AI controllers
+     */
+    public Random getAiRandom() {
+        return aiRandom;
+    }
+}
@@ -68,16 +68,34 @@ public final class GameState {
      */
     private final Set<City> chosenCities = new HashSet<>();
 
+    /**
+     * The sources of randomness of this game.
+     */
+    private final GameRandom random;
+
     /**
      * Creates a new {@link GameState} with the given {@link HexGrid} and
-     * {@link Player}s.
+     * {@link Player}s that draws from {@link hProjekt.Config#RANDOM}.
      *
      * @param grid    the {@link HexGrid}
      * @param players the {@link Player}s
      */
     public GameState(final HexGrid grid, final List<Player> players) {
+        this(grid, players, GameRandom.shared());
+    }
+
+    /**
+     * Creates a new {@link GameState} with the given {@link HexGrid},
+     * {@link Player}s and sources of randomness.
+     *
+     * @param grid    the {@link HexGrid}
+     * @param players the {@link Player}s
+     * @param random  the sources of randomness of the game
+     */
+    public GameState(final HexGrid grid, final List<Player> players, final GameRandom random) {
         this.grid = grid;
         this.players = players;
+        this.random = random;
     }
 
     /**
@@ -89,6 +107,15 @@ public final class GameState {
         return grid;
     }
 
+    /**
+     * Returns the sources of randomness of this game.
+     *
+     * @return the sources of randomness of this game
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
     /**
      * Returns an unmodifiable list of all {@link Player}s in this
      * {@link GameState}.
@@ -273,7 +300,7 @@ public final class GameState {
      */
     public Player newPlayer(final @Nullable String name, final Color color,
             final Class<? extends AiController> aiController) {
-        final Player player = new PlayerImpl.Builder(this.players.size() + 1)
+        final Player player = new PlayerImpl.Builder(this.players.size() + 1, this.random.getColorRandom())
                 .color(color)
                 .name(name)
                 .ai(aiController)
@@ -0,0 +1,431 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import hProjekt.model.TilePosition.EdgeDirection;
+
+/**
+ * Dense, array backed index over the tiles and edges of a {@link HexGridImpl}.
+ * Axial (q, r) coordinates are mapped to a flat array index over the bounding
+ * box of the tiles, so lookups are constant time and do not allocate.
+ * Edges are stored in slots addressed by the tile index of one endpoint and the
+ * {@link EdgeDirection} pointing to the other endpoint.
+ * Additionally the neighbours, incident edges and coast flag of every tile are
+ * precomputed, so neighbour queries are constant time and do not allocate.
+ * Every edge gets a dense id and the edges sharing an endpoint with it are
+ * stored as a static line graph. Like {@link Edge#connectsTo(Edge)}, an edge
+ * counts as connected to itself.
+ * The index is immutable and has to be rebuilt whenever tiles or edges are
+ * added to the grid.
+ */
+final class GridIndex {
+    /**
+     * Maps {@code (dq + 1) * 3 + (dr + 1)} of a relative position to the ordinal
+     * of the matching {@link EdgeDirection} or {@code -1} if there is none.
+     */
+    private static final int[] DIRECTION_BY_DELTA = new int[9];
+
+    static {
+        Arrays.fill(DIRECTION_BY_DELTA, -1);
+        for (final EdgeDirection direction : EdgeDirection.VALUES) {
+            DIRECTION_BY_DELTA[(direction.position.q() + 1) * 3 + direction.position.r() + 1] = direction.ordinal();
+        }
+    }
+
+    private final int minQ;
+    private final int minR;
+    private final int width;
+    private final int height;
+    private final Tile[] tiles;
+    private final Edge[] edgeSlots;
+    private final boolean allEdgesIndexed;
+    private final Tile[] neighbourSlots;
+    private final Set<Tile>[] neighbourSets;
+    private final Set<Edge>[] edgeSets;
+    private final boolean[] coast;
+    private final int[] edgeIdBySlot;
+    private final Edge[] edgesById;
+    private final int[] connectedEdgesStart;
+    private final int[] connectedEdgeIds;
+    private final Set<Edge>[] connectedEdgeSets;
+    private final int sourceTiles;
+    private final int sourceEdges;
+
+    /**
+     * Creates a new index over the given tiles and edges.
+     *
+     * @param tiles the tiles of the grid
+     * @param edges the edges of the grid
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    GridIndex(final Map<TilePosition, Tile> tiles, final Map<Set<TilePosition>, Edge> edges) {
+        int minQ = Integer.MAX_VALUE;
+        int minR = Integer.MAX_VALUE;
+        int maxQ = Integer.MIN_VALUE;
+        int maxR = Integer.MIN_VALUE;
+        for (final TilePosition position : tiles.keySet()) {
+            minQ = Math.min(minQ, position.q());
+            minR = Math.min(minR, position.r());
+            maxQ = Math.max(maxQ, position.q());
+            maxR = Math.max(maxR, position.r());
+        }
+        if (tiles.isEmpty()) {
+            this.minQ = 0;
+            this.minR = 0;
+            this.width = 0;
+            this.height = 0;
+        } else {
+            this.minQ = minQ;
+            this.minR = minR;
+            this.width = maxQ - minQ + 1;
+            this.height = maxR - minR + 1;
+        }
+        this.sourceTiles = tiles.size();
+        this.sourceEdges = edges.size();
+        this.tiles = new Tile[width * height];
+        for (final Map.Entry<TilePosition, Tile> entry : tiles.entrySet()) {
+            this.tiles[tileIndex(entry.getKey().q(), entry.getKey().r())] = entry.getValue();
+        }
+
+        this.edgeSlots = new Edge[this.tiles.length * EdgeDirection.SIZE];
+        boolean allEdgesIndexed = true;
+        for (final Edge edge : edges.values()) {
+            final int slot1 = edgeSlot(edge.getPosition1(), edge.getPosition2());
+            final int slot2 = edgeSlot(edge.getPosition2(), edge.getPosition1());
+            if (slot1 < 0 || slot2 < 0) {
+                allEdgesIndexed = false;
+                continue;
+            }
+            edgeSlots[slot1] = edge;
+            edgeSlots[slot2] = edge;
+        }
+        this.allEdgesIndexed = allEdgesIndexed;
+
+        this.neighbourSlots = new Tile[this.tiles.length * EdgeDirection.SIZE];
+        this.neighbourSets = new Set[this.tiles.length];
+        this.edgeSets = new Set[this.tiles.length];
+        this.coast = new boolean[this.tiles.length];
+        for (final TilePosition position : tiles.keySet()) {
+            final int tile = tileIndex(position.q(), position.r());
+            final List<Tile> neighbours = new ArrayList<>(EdgeDirection.SIZE);
+            final List<Edge> incidentEdges = new ArrayList<>(EdgeDirection.SIZE);
+            for (final EdgeDirection direction : EdgeDirection.VALUES) {
+                final Tile neighbour = getTile(position.q() + direction.position.q(),
+                        position.r() + direction.position.r());
+                neighbourSlots[tile * EdgeDirection.SIZE + direction.ordinal()] = neighbour;
+                if (neighbour != null) {
+                    neighbours.add(neighbour);
+                }
+                final Edge edge = edgeSlots[tile * EdgeDirection.SIZE + direction.ordinal()];
+                if (edge != null) {
+                    incidentEdges.add(edge);
+                }
+            }
+            neighbourSets[tile] = Set.copyOf(neighbours);
+            edgeSets[tile] = Set.copyOf(incidentEdges);
+            coast[tile] = neighbours.size() < EdgeDirection.SIZE;
+        }
+
+        this.edgeIdBySlot = new int[edgeSlots.length];
+        Arrays.fill(edgeIdBySlot, -1);
+        final List<Edge> edgesById = new ArrayList<>();
+        for (int slot = 0; slot < edgeSlots.length; slot++) {
+            final Edge edge = edgeSlots[slot];
+            if (edge == null || edgeIdBySlot[slot] >= 0) {
+                continue;
+            }
+            edgeIdBySlot[edgeSlot(edge.getPosition1(), edge.getPosition2())] = edgesById.size();
+            edgeIdBySlot[edgeSlot(edge.getPosition2(), edge.getPosition1())] = edgesById.size();
+            edgesById.add(edge);
+        }
+        this.edgesById = edgesById.toArray(Edge[]::new);
+
+        this.connectedEdgesStart = new int[this.edgesById.length + 1];
+        this.connectedEdgeIds = new int[this.edgesById.length * (2 * (EdgeDirection.SIZE - 1) + 1)];
+        this.connectedEdgeSets = new Set[this.edgesById.length];
+        int next = 0;
+        for (int id = 0; id < this.edgesById.length; id++) {
+            connectedEdgesStart[id] = next;
+            final Edge edge = this.edgesById[id];
+            final List<Edge> connectedEdges = new ArrayList<>(2 * (EdgeDirection.SIZE - 1) + 1);
+            connectedEdgeIds[next++] = id;
+            connectedEdges.add(edge);
+            for (final TilePosition endpoint : List.of(edge.getPosition1(), edge.getPosition2())) {
+                final int tile = tileIndex(endpoint);
+                for (int direction = 0; direction < EdgeDirection.SIZE; direction++) {
+                    final int other = edgeIdBySlot[tile * EdgeDirection.SIZE + direction];
+                    if (other >= 0 && other != id) {
+                        connectedEdgeIds[next++] = other;
+                        connectedEdges.add(this.edgesById[other]);
+                    }
+                }
+            }
+            connectedEdgeSets[id] = Set.copyOf(connectedEdges);
+        }
+        connectedEdgesStart[this.edgesById.length] = next;
+    }
+
+    /**
+     * Returns the ordinal of the {@link EdgeDirection} pointing from (0, 0) to the
+     * given relative position or {@code -1} if the position is not adjacent.
+     *
+     * @param dq the relative q-coordinate
+     * @param dr the relative r-coordinate
+     * @return the ordinal of the matching direction or {@code -1}
+     */
+    static int directionIndex(final int dq, final int dr) {
+        if (dq < -1 || dq > 1 || dr < -1 || dr > 1) {
+            return -1;
+        }
+        return DIRECTION_BY_DELTA[(dq + 1) * 3 + dr + 1];
+    }
+
+    /**
+     * Returns the edge slot for the edge going from the given position to the
+     * given adjacent position or {@code -1} if there is no such slot.
+     *
+     * @param from the first position
+     * @param to   the second position
+     * @return the edge slot or {@code -1}
+     */
+    private int edgeSlot(final TilePosition from, final TilePosition to) {
+        final int direction = directionIndex(to.q() - from.q(), to.r() - from.r());
+        final int tile = tileIndex(from.q(), from.r());
+        if (direction < 0 || tile < 0) {
+            return -1;
+        }
+        return tile * EdgeDirection.SIZE + direction;
+    }
+
+    /**
+     * Returns the number of slots in this index, i.e. the area of the bounding
+     * box. Every tile index is smaller than this value.
+     *
+     * @return the number of slots in this index
+     */
+    int capacity() {
+        return tiles.length;
+    }
+
+    /**
+     * Returns the flat array index of the given coordinates or {@code -1} if they
+     * lie outside the bounding box.
+     *
+     * @param q the q-coordinate
+     * @param r the r-coordinate
+     * @return the flat array index of the given coordinates or {@code -1}
+     */
+    int tileIndex(final int q, final int r) {
+        final int column = q - minQ;
+        final int row = r - minR;
+        if (column < 0 || row < 0 || column >= width || row >= height) {
+            return -1;
+        }
+        return row * width + column;
+    }
+
+    /**
+     * Returns the flat array index of the given position or {@code -1} if it lies
+     * outside the bounding box.
+     *
+     * @param position the position
+     * @return the flat array index of the given position or {@code -1}
+     */
+    int tileIndex(final TilePosition position) {
+        return tileIndex(position.q(), position.r());
+    }
+
+    /**
+     * Returns the tile at the given coordinates or {@code null} if there is none.
+     *
+     * @param q the q-coordinate
+     * @param r the r-coordinate
+     * @return the tile at the given coordinates or {@code null}
+     */
+    Tile getTile(final int q, final int r) {
+        final int index = tileIndex(q, r);
+        return index < 0 ? null : tiles[index];
+    }
+
+    /**
+     * Returns the tile with the given flat array index or {@code null} if the slot
+     * is empty.
+     *
+     * @param index the flat array index
+     * @return the tile with the given index or {@code null}
+     */
+    Tile getTile(final int index) {
+        return tiles[index];
+    }
+
+    /**
+     * Returns whether this index has been built over the given tiles and edges.
+     * Tiles and edges are only ever added to a grid, so comparing their number
+     * is enough to detect a stale index.
+     *
+     * @param tiles the tiles of the grid
+     * @param edges the edges of the grid
+     * @return whether this index covers all of the given tiles and edges
+     */
+    boolean isFor(final Map<TilePosition, Tile> tiles, final Map<Set<TilePosition>, Edge> edges) {
+        return sourceTiles == tiles.size() && sourceEdges == edges.size();
+    }
+
+    /**
+     * Returns whether every edge of the grid could be stored in this index.
+     * If not, lookups that return {@code null} are not conclusive.
+     *
+     * @return whether every edge of the grid is stored in this index
+     */
+    boolean hasAllEdges() {
+        return allEdgesIndexed;
+    }
+
+    /**
+     * Returns the edge starting at the given coordinates in the given direction or
+     * {@code null} if there is none.
+     *
+     * @param q         the q-coordinate of the starting tile
+     * @param r         the r-coordinate of the starting tile
+     * @param direction the ordinal of the {@link EdgeDirection}
+     * @return the edge in the given direction or {@code null}
+     */
+    Edge getEdge(final int q, final int r, final int direction) {
+        final int tile = tileIndex(q, r);
+        return tile < 0 ? null : edgeSlots[tile * EdgeDirection.SIZE + direction];
+    }
+
+    /**
+     * Returns the edge between the given coordinates or {@code null} if there is
+     * none or the coordinates are not adjacent.
+     *
+     * @param q0 the q-coordinate of the first position
+     * @param r0 the r-coordinate of the first position
+     * @param q1 the q-coordinate of the second position
+     * @param r1 the r-coordinate of the second position
+     * @return the edge between the given coordinates or {@code null}
+     */
+    Edge getEdge(final int q0, final int r0, final int q1, final int r1) {
+        final int direction = directionIndex(q1 - q0, r1 - r0);
+        return direction < 0 ? null : getEdge(q0, r0, direction);
+    }
+
+    /**
+     * Returns the neighbour of the tile with the given index in the given
+     * direction or {@code null} if there is none.
+     *
+     * @param tile      the flat array index of the tile
+     * @param direction the ordinal of the {@link EdgeDirection}
+     * @return the neighbour in the given direction or {@code null}
+     */
+    Tile getNeighbour(final int tile, final int direction) {
+        return neighbourSlots[tile * EdgeDirection.SIZE + direction];
+    }
+
+    /**
+     * Returns an unmodifiable set of all neighbours of the tile with the given
+     * index.
+     *
+     * @param tile the flat array index of the tile
+     * @return all neighbours of the tile
+     */
+    Set<Tile> getNeighbours(final int tile) {
+        return neighbourSets[tile];
+    }
+
+    /**
+     * Returns an unmodifiable set of all edges incident to the tile with the given
+     * index.
+     *
+     * @param tile the flat array index of the tile
+     * @return all edges incident to the tile
+     */
+    Set<Edge> getEdges(final int tile) {
+        return edgeSets[tile];
+    }
+
+    /**
+     * Returns whether the tile with the given index has less than six neighbours.
+     *
+     * @param tile the flat array index of the tile
+     * @return whether the tile is at the coast
+     */
+    boolean isAtCoast(final int tile) {
+        return coast[tile];
+    }
+
+    /**
+     * Returns the number of edges with an id in this index.
+     *
+     * @return the number of indexed edges
+     */
+    int edgeCount() {
+        return edgesById.length;
+    }
+
+    /**
+     * Returns the dense id of the given edge or {@code -1} if the edge is not part
+     * of this index.
+     *
+     * @param edge the edge
+     * @return the id of the given edge or {@code -1}
+     */
+    int edgeId(final Edge edge) {
+        final int slot = edgeSlot(edge.getPosition1(), edge.getPosition2());
+        if (slot < 0 || edgeIdBySlot[slot] < 0) {
+            return -1;
+        }
+        final int id = edgeIdBySlot[slot];
+        return edgesById[id] == edge || edgesById[id].equals(edge) ? id : -1;
+    }
+
+    /**
+     * Returns the edge with the given id.
+     *
+     * @param id the id of the edge
+     * @return the edge with the given id
+     */
+    Edge getEdge(final int id) {
+        return edgesById[id];
+    }
+
+    /**
+     * Returns the position of the first connected edge of the edge with the given
+     * id in {@link #connectedEdgeId(int)}.
+     * The connected edges of edge {@code id} are found at the positions
+     * {@code connectedEdgesStart(id)} (inclusive) to
+     * {@code connectedEdgesStart(id + 1)} (exclusive).
+     *
+     * @param id the id of the edge
+     * @return the position of the first connected edge
+     */
+    int connectedEdgesStart(final int id) {
+        return connectedEdgesStart[id];
+    }
+
+    /**
+     * Returns the id of the connected edge at the given position of the line graph.
+     *
+     * @param position the position in the line graph
+     * @return the id of the connected edge
+     * @see #connectedEdgesStart(int)
+     */
+    int connectedEdgeId(final int position) {
+        return connectedEdgeIds[position];
+    }
+
+    /**
+     * Returns an unmodifiable set of all edges sharing an endpoint with the edge
+     * with the given id, including the edge itself.
+     *
+     * @param id the id of the edge
+     * @return all edges connected to the edge
+     */
+    Set<Edge> getConnectedEdges(final int id) {
+        return connectedEdgeSets[id];
+    }
+}
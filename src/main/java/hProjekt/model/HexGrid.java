@@ -1,9 +1,13 @@
 package hProjekt.model;
 
+import java.util.ArrayDeque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 
@@ -111,6 +115,17 @@ public interface HexGrid {
      */
     Edge getEdge(TilePosition position0, TilePosition position1);
 
+    /**
+     * Returns the edge starting at the given position in the given direction.
+     *
+     * @param position  the position the edge starts at
+     * @param direction the direction of the edge
+     * @return the edge in the given direction or {@code null} if there is none
+     */
+    default Edge getEdge(TilePosition position, TilePosition.EdgeDirection direction) {
+        return getEdge(position, TilePosition.neighbour(position, direction));
+    }
+
     /**
      * Returns all cities of the grid.
      *
@@ -140,6 +155,20 @@ public interface HexGrid {
      */
     Map<TilePosition, City> getUnconnectedCities();
 
+    /**
+     * Returns whether the given positions are connected by rails of any player.
+     * A position is always connected to itself.
+     *
+     * @param position0 the first position
+     * @param position1 the second position
+     * @return whether the given positions are connected by rails
+     */
+    default boolean isConnectedByRail(TilePosition position0, TilePosition position1) {
+        return position0.equals(position1) || !findPath(position0, position1,
+                getEdges().values().stream().filter(Edge::hasRail).collect(Collectors.toSet()), (from, to) -> 1)
+                .isEmpty();
+    }
+
     /**
      * Returns all cities that are stating cities.
      *
@@ -155,6 +184,72 @@ public interface HexGrid {
      */
     Map<Set<TilePosition>, Edge> getRails(Player player);
 
+    /**
+     * Returns the build frontier of the given player: all edges that share a
+     * position with a rail of the player but are not a rail of the player
+     * themselves.
+     *
+     * @param player the player to get the build frontier of
+     * @return the build frontier of the given player
+     */
+    default Set<Edge> getRailFrontier(Player player) {
+        return getRails(player).values().stream()
+                .flatMap(rail -> rail.getConnectedEdges().stream())
+                .filter(edge -> !edge.getRailOwners().contains(player))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Returns all rails of other players the given player can reach from its own
+     * rails by driving over at most the given number of rails of other players.
+     * A rail next to the network of the player is always included, even if the
+     * maximum distance is smaller than one.
+     *
+     * @param player      the player renting the rails
+     * @param maxDistance the maximum number of rails of other players to drive
+     *                    over
+     * @return the rails of other players the given player can reach
+     */
+    default Set<Edge> getRentableRails(Player player, int maxDistance) {
+        final Map<Edge, Integer> distances = new HashMap<>();
+        final Queue<Edge> queue = new ArrayDeque<>();
+        for (final Edge rail : getRails(player).values()) {
+            for (final Edge edge : rail.getConnectedEdges()) {
+                if (edge.hasRail() && !edge.getRailOwners().contains(player)
+                        && distances.putIfAbsent(edge, 1) == null) {
+                    queue.add(edge);
+                }
+            }
+        }
+        while (!queue.isEmpty()) {
+            final Edge current = queue.remove();
+            final int distance = distances.get(current);
+            if (distance >= maxDistance) {
+                continue;
+            }
+            for (final Edge edge : current.getConnectedEdges()) {
+                if (edge.hasRail() && !edge.getRailOwners().contains(player)
+                        && distances.putIfAbsent(edge, distance + 1) == null) {
+                    queue.add(edge);
+                }
+            }
+        }
+        return distances.keySet();
+    }
+
+    /**
+     * Returns a counter that changes whenever a rail is built or removed on any
+     * edge of this grid.
+     * Can be used to invalidate values derived from the rails.
+     * Grids that do not track their rails return {@code -1}, in which case values
+     * derived from the rails must not be cached.
+     *
+     * @return the current rail version or {@code -1} if the rails are not tracked
+     */
+    default long getRailVersion() {
+        return -1;
+    }
+
     /**
      * Finds the shortest path between start and end using the available edges and
      * the edgeCostFunction.
@@ -169,4 +264,49 @@ public interface HexGrid {
      */
     List<Edge> findPath(TilePosition start, TilePosition end, Set<Edge> availabeEdges,
             BiFunction<TilePosition, TilePosition, Integer> edgeCostFunction);
+
+    /**
+     * Finds the shortest path between start and end using the available edges and
+     * the edgeCostFunction.
+     * Implementations may use an A* search with the hex distance to the end scaled
+     * by the given minimum edge cost as heuristic. As long as no edge costs less
+     * than the given minimum, the returned path has the same cost as the one
+     * returned by {@link #findPath(TilePosition, TilePosition, Set, BiFunction)}.
+     * If several paths have that cost, the two searches may return different
+     * ones.
+     *
+     * @param start            the start position
+     * @param end              the end position
+     * @param availabeEdges    the edges to search for the path
+     * @param edgeCostFunction the function to calculate the cost of an edge
+     *                         receives the two position of the edge as inputs.
+     *                         First the current position, second the next position.
+     * @param minimumEdgeCost  a lower bound for the cost of every edge, {@code 0}
+     *                         if none is known
+     * @return the shortest path between start and end
+     */
+    default List<Edge> findPath(TilePosition start, TilePosition end, Set<Edge> availabeEdges,
+            BiFunction<TilePosition, TilePosition, Integer> edgeCostFunction, int minimumEdgeCost) {
+        return findPath(start, end, availabeEdges, edgeCostFunction);
+    }
+
+    /**
+     * Finds the shortest paths from start to all positions using the available
+     * edges and the edgeCostFunction.
+     * The paths are computed once, so querying the returned tree is cheaper than
+     * calling {@link #findPath(TilePosition, TilePosition, Set, BiFunction)} for
+     * every target. The tree does not reflect later changes of the grid.
+     *
+     * @param start            the start position
+     * @param availabeEdges    the edges to search for the paths
+     * @param edgeCostFunction the function to calculate the cost of an edge
+     *                         receives the two position of the edge as inputs.
+     *                         First the current position, second the next position.
+     * @return the shortest paths from start
+     */
+    default PathTree findPathTree(TilePosition start, Set<Edge> availabeEdges,
+            BiFunction<TilePosition, TilePosition, Integer> edgeCostFunction) {
+        final Set<Edge> edges = Set.copyOf(availabeEdges);
+        return target -> findPath(start, target, edges, edgeCostFunction);
+    }
 }
@@ -4,13 +4,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import org.tudalgo.algoutils.student.annotation.DoNotTouch;
 import org.tudalgo.algoutils.student.annotation.StudentImplementationRequired;
@@ -36,7 +39,13 @@ public class HexGridImpl implements HexGrid {
     private final ObservableDoubleValue tileWidth;
     private final ObservableDoubleValue tileHeight;
     private final DoubleProperty tileSize = new SimpleDoubleProperty(50);
-    private final Random random = Config.RANDOM;
+    private Random random = Config.RANDOM;
+    private volatile GridIndex index;
+    private volatile RailIndex railIndex;
+    private RailConnectivity railConnectivity;
+    private volatile EdgeCosts edgeCosts;
+    private ParallelCosts parallelCosts;
+    private volatile long railVersion;
 
     /**
      * Creates a new HexGrid with the given scale.
@@ -55,13 +64,60 @@ public class HexGridImpl implements HexGrid {
         initCities(numberOfCities, new NameGenerator(names, 3, random));
     }
 
+    /**
+     * Creates a new HexGrid with the given scale from the given seed.
+     * The random walks generating the terrain are run in parallel on the common
+     * {@link ForkJoinPool}.
+     *
+     * @param scale          the scale of the grid
+     * @param numberOfCities the number of cities to place
+     * @param names          the names to use for the cities
+     * @param seed           the seed to generate the grid from
+     * @see #HexGridImpl(int, int, String[], long, ForkJoinPool)
+     */
+    public HexGridImpl(final int scale, final int numberOfCities, final String[] names, final long seed) {
+        this(scale, numberOfCities, names, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new HexGrid with the given scale from the given seed.
+     * The random walks generating the terrain are run in parallel on the given
+     * pool. The same seed always results in the same grid, regardless of the
+     * parallelism of the pool. If {@link Config#WEIGHTED_CITY_PLACEMENT} is set,
+     * the cities are placed using weighted sampling.
+     *
+     * @param scale          the scale of the grid
+     * @param numberOfCities the number of cities to place
+     * @param names          the names to use for the cities
+     * @param seed           the seed to generate the grid from
+     * @param pool           the pool to generate the terrain on
+     */
+    public HexGridImpl(final int scale, final int numberOfCities, final String[] names, final long seed,
+            final ForkJoinPool pool) {
+        this.tileHeight = Bindings.createDoubleBinding(() -> tileSize.get() * 2, tileSize);
+        this.tileWidth = Bindings.createDoubleBinding(() -> Math.sqrt(3) * tileSize.get(), tileSize);
+        final MapGenerator generator = new MapGenerator(scale, seed, pool);
+        generator.generateTerrain().forEach(this::addTile);
+        initEdges();
+        index();
+
+        this.random = new Random(generator.getCitySeed());
+        if (Config.WEIGHTED_CITY_PLACEMENT) {
+            initCitiesWeighted(numberOfCities, new NameGenerator(names, 3, random), pool);
+        } else {
+            initCities(numberOfCities, new NameGenerator(names, 3, random));
+        }
+    }
+
     /**
      * Creates a new HexGrid with the default values.
+     * The grid is generated from a seed drawn from {@link Config#RANDOM}.
      *
      * @param names the names to use for the cities
+     * @see #HexGridImpl(int, int, String[], long)
      */
     public HexGridImpl(String[] names) {
-        this(Config.MAP_SCALE, Config.NUMBER_OF_CITIES, names);
+        this(Config.MAP_SCALE, Config.NUMBER_OF_CITIES, names, Config.RANDOM.nextLong());
     }
 
     /**
@@ -124,6 +180,25 @@ public class HexGridImpl implements HexGrid {
         return found[0];
     }
 
+    /**
+     * Checks if there is a tile within the given radius around the given center
+     * that matches the given predicate.
+     * Behaves like {@link #isNear}, but iterates with {@link TileRings} and looks
+     * the tiles up in the {@link GridIndex}. {@link #isNear} still allocates for
+     * every visited position, so it is only used by {@link #initCities}.
+     *
+     * @param index     the index to look the tiles up in
+     * @param center    the center of the spiral
+     * @param predicate the predicate to test the tiles with
+     * @param radius    the radius of the spiral
+     * @return whether there is a matching tile within the radius
+     */
+    private static boolean isNearIndexed(final GridIndex index, final TilePosition center,
+            final Predicate<Tile> predicate, final int radius) {
+        return TileRings.forEachSpiral(center.q(), center.r(), radius,
+                (q, r, ring, side, tile) -> predicate.test(index.getTile(q, r)));
+    }
+
     /**
      * Initializes the tiles in this grid.
      * Performs several random walks to create a random map.
@@ -204,6 +279,106 @@ public class HexGridImpl implements HexGrid {
         }
     }
 
+    /**
+     * Initializes the cities in this grid by sampling the tiles with their city
+     * probabilities as weights.
+     * Results in the same distribution as {@link #initCities}, but every sample
+     * places a city. After a city has been placed, only the weights of the tiles
+     * within {@link Config#CITY_NEAR_CITY_RADIUS} are updated.
+     *
+     * @param amount        the amount of cities to place
+     * @param nameGenerator the name generator to use
+     * @param pool          the pool to compute the initial weights on
+     * @throws IllegalStateException if there is no tile a city can be placed on
+     */
+    private void initCitiesWeighted(int amount, NameGenerator nameGenerator, ForkJoinPool pool) {
+        int startingCitiesAdded = 0;
+        final GridIndex index = index();
+        final WeightedSampler sampler = new WeightedSampler(index.capacity());
+        final IntStream tileIndices = IntStream.range(0, index.capacity()).filter(i -> index.getTile(i) != null);
+        final double[] weights = new double[index.capacity()];
+        pool.submit(() -> tileIndices.parallel().forEach(i -> weights[i] = getCityProbability(index.getTile(i))))
+                .join();
+        for (int i = 0; i < weights.length; i++) {
+            sampler.set(i, weights[i]);
+        }
+
+        while (cities.size() < amount) {
+            final int sampled = sampler.sample(random.nextDouble());
+            if (sampled < 0) {
+                throw new IllegalStateException("There is no tile left to place a city on");
+            }
+            final Tile tile = index.getTile(sampled);
+            startingCitiesAdded = placeCity(tile, amount, startingCitiesAdded, nameGenerator);
+
+            TileRings.forEachSpiral(tile.getPosition().q(), tile.getPosition().r(), Config.CITY_NEAR_CITY_RADIUS,
+                    (q, r, ring, side, i) -> {
+                        final Tile nearTile = index.getTile(q, r);
+                        if (nearTile != null) {
+                            sampler.set(index.tileIndex(q, r), getCityProbability(nearTile));
+                        }
+                        return false;
+                    });
+        }
+    }
+
+    /**
+     * Returns the probability of a city being placed on the given tile.
+     *
+     * @param tile the tile
+     * @return the probability of a city being placed on the given tile
+     */
+    private double getCityProbability(final Tile tile) {
+        if (tile.getType() != Tile.Type.PLAIN) {
+            return 0;
+        }
+
+        final GridIndex index = index();
+        double probability = Config.CITY_BASE_PROBABILTY;
+
+        if (tile.isAtCoast()) {
+            probability = Config.CITY_AT_COAST_PROBABILTY;
+        }
+
+        if (isNearIndexed(index, tile.getPosition(), t -> t != null && t.getType() == Tile.Type.MOUNTAIN,
+                Config.CITY_NEAR_MOUNTAIN_RADIUS)) {
+            probability = Config.CITY_NEAR_MOUNTAIN_PROBABILTY;
+        }
+
+        if (isNearIndexed(index, tile.getPosition(), t -> t != null && cities.get(t.getPosition()) != null,
+                Config.CITY_NEAR_CITY_RADIUS)) {
+            probability = Config.CITY_NEAR_CITY_PROBABILTY;
+        }
+        return probability;
+    }
+
+    /**
+     * Places a city on the given tile.
+     * Decides randomly whether the city is a starting city, making sure that all
+     * starting cities are placed before the given amount of cities is reached.
+     *
+     * @param tile                the tile to place the city on
+     * @param amount              the amount of cities to place in total
+     * @param startingCitiesAdded the amount of starting cities placed so far
+     * @param nameGenerator       the name generator to use
+     * @return the amount of starting cities placed including the new city
+     */
+    private int placeCity(final Tile tile, final int amount, int startingCitiesAdded,
+            final NameGenerator nameGenerator) {
+        boolean isStartingCity = false;
+        if (startingCitiesAdded < Config.NUMBER_OF_STARTING_CITIES
+                && (amount - cities.size() <= Config.NUMBER_OF_STARTING_CITIES - startingCitiesAdded
+                        || random.nextBoolean())) {
+            isStartingCity = true;
+            startingCitiesAdded++;
+        }
+
+        final City city = new CityImpl(tile.getPosition(), nameGenerator.generateName(10), isStartingCity,
+                this);
+        this.cities.put(tile.getPosition(), city);
+        return startingCitiesAdded;
+    }
+
     /**
      * Initializes the edges in this grid.
      */
@@ -264,22 +439,149 @@ public class HexGridImpl implements HexGrid {
 
     @Override
     public Tile getTileAt(final int q, final int r) {
-        return getTileAt(new TilePosition(q, r));
+        return index().getTile(q, r);
     }
 
     @Override
     public Tile getTileAt(final TilePosition position) {
-        return tiles.get(position);
+        if (position == null) {
+            return null;
+        }
+        return getTileAt(position.q(), position.r());
     }
 
     /**
      * Adds a new tile to the grid.
+     * Invalidates the {@link GridIndex} of this grid.
      *
      * @param position position of the new tile
      * @param type     type of the new tile
      */
     private void addTile(final TilePosition position, final Tile.Type type) {
         tiles.put(position, new TileImpl(position, type, tileHeight, tileWidth, this));
+        index = null;
+    }
+
+    /**
+     * Returns the {@link GridIndex} of this grid.
+     * The index is built on first access after the tiles or edges have changed.
+     *
+     * @return the {@link GridIndex} of this grid
+     */
+    GridIndex index() {
+        GridIndex current = index;
+        if (current == null || !current.isFor(tiles, edges)) {
+            current = new GridIndex(tiles, edges);
+            index = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the cached {@link EdgeCosts} of this grid.
+     * The cache is recomputed if the {@link GridIndex} or the {@link CostTables}
+     * have changed.
+     *
+     * @return the cached {@link EdgeCosts} of this grid
+     */
+    EdgeCosts edgeCosts() {
+        final GridIndex currentIndex = index();
+        final CostTables tables = CostTables.current();
+        EdgeCosts current = edgeCosts;
+        if (current == null || !current.isFor(currentIndex, tables)) {
+            current = new EdgeCosts(currentIndex, tables);
+            edgeCosts = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the cached parallel costs of the edges of this grid.
+     * The cache is invalidated edge by edge whenever the rails change.
+     *
+     * @return the cached parallel costs of this grid
+     */
+    ParallelCosts parallelCosts() {
+        trackRails();
+        final GridIndex currentIndex = index();
+        if (parallelCosts == null || !parallelCosts.isFor(currentIndex)) {
+            parallelCosts = new ParallelCosts(currentIndex, cities);
+        }
+        return parallelCosts;
+    }
+
+    /**
+     * Builds the rail dependent indices of this grid if they do not exist yet.
+     * Also attaches a listener to the rail owners of every edge, so the indices
+     * stay up to date afterwards.
+     * The rail version may be read from the application thread while the rails
+     * change on the game thread, so the indices are built at most once and only
+     * published once they are complete.
+     */
+    private void trackRails() {
+        if (railIndex != null) {
+            return;
+        }
+        synchronized (this) {
+            if (railIndex != null) {
+                return;
+            }
+            final RailIndex newRailIndex = new RailIndex(edges);
+            railConnectivity = new RailConnectivity(index(), cities, edges.values());
+            for (final Edge edge : edges.values()) {
+                edge.getRailOwnersProperty()
+                        .addListener((observable, oldOwners, newOwners) -> railOwnersChanged(edge));
+            }
+            railIndex = newRailIndex;
+        }
+    }
+
+    /**
+     * Returns the {@link RailIndex} of this grid.
+     *
+     * @return the {@link RailIndex} of this grid
+     */
+    private RailIndex railIndex() {
+        trackRails();
+        return railIndex;
+    }
+
+    /**
+     * Returns the {@link RailConnectivity} of this grid.
+     *
+     * @return the {@link RailConnectivity} of this grid
+     */
+    private RailConnectivity railConnectivity() {
+        trackRails();
+        return railConnectivity;
+    }
+
+    /**
+     * Updates all rail dependent indices after the owners of the given edge have
+     * changed.
+     * Has to be called whenever the list of rail owners is modified in place.
+     *
+     * @param edge the edge whose owners have changed
+     */
+    synchronized void railOwnersChanged(final Edge edge) {
+        trackRails();
+        if (!railIndex.update(edge)) {
+            return;
+        }
+        railVersion++;
+        if (parallelCosts != null) {
+            final int id = index().edgeId(edge);
+            if (id >= 0 && parallelCosts.isFor(index())) {
+                parallelCosts.invalidate(id);
+            } else {
+                parallelCosts = null;
+            }
+        }
+        if (edge.hasRail()) {
+            railConnectivity.addRail(edge);
+        } else {
+            railConnectivity.reset(edges.values());
+        }
     }
 
     // Edges / Roads
@@ -291,31 +593,105 @@ public class HexGridImpl implements HexGrid {
 
     @Override
     public Edge getEdge(final TilePosition position0, final TilePosition position1) {
+        final GridIndex current = index();
+        final Edge edge = current.getEdge(position0.q(), position0.r(), position1.q(), position1.r());
+        if (edge != null || current.hasAllEdges()) {
+            return edge;
+        }
         return edges.get(Set.of(position0, position1));
     }
 
+    @Override
+    public Edge getEdge(final TilePosition position, final EdgeDirection direction) {
+        final GridIndex current = index();
+        final Edge edge = current.getEdge(position.q(), position.r(), direction.ordinal());
+        if (edge != null || current.hasAllEdges()) {
+            return edge;
+        }
+        return edges.get(Set.of(position, TilePosition.neighbour(position, direction)));
+    }
+
     @Override
     @StudentImplementationRequired("P1.3")
     public Map<Set<TilePosition>, Edge> getRails(final Player player) {
         // TODO: P1.3
-        HexGrid hexGrid = player.getHexGrid();
-        Map<Set<TilePosition>, Edge> rails = new HashMap<>();
-        Map<Set<TilePosition>, Edge> edges = hexGrid.getEdges();
+        return railIndex().getRails(player);
+    }
 
-        for (Map.Entry<Set<TilePosition>, Edge> entry : edges.entrySet())
-        {
-            for (TilePosition tilePosition : entry.getKey())
-            {
-                Edge edge = entry.getValue();
+    /**
+     * {@inheritDoc}
+     * The frontier is maintained incrementally whenever a rail is built, so this
+     * method does not scan the rails of the player.
+     *
+     * @return a live, unmodifiable view of the build frontier of the given player
+     */
+    @Override
+    public Set<Edge> getRailFrontier(final Player player) {
+        return railIndex().getFrontier(player);
+    }
 
-                if (edge.hasRail()==true)
-                {
-                    rails.put(Set.of(tilePosition), edge);
+    /**
+     * {@inheritDoc}
+     * Runs a breadth-first search over the dense edge ids of the
+     * {@link GridIndex}, using a primitive queue and a distance per edge id.
+     */
+    @Override
+    public Set<Edge> getRentableRails(final Player player, final int maxDistance) {
+        final GridIndex index = index();
+        final Map<Set<TilePosition>, Edge> rails = getRails(player);
+        final int[] distances = new int[index.edgeCount()];
+        final int[] queue = new int[index.edgeCount()];
+        int head = 0;
+        int tail = 0;
+        for (final Edge rail : rails.values()) {
+            final int id = index.edgeId(rail);
+            if (id < 0) {
+                return HexGrid.super.getRentableRails(player, maxDistance);
+            }
+            for (int i = index.connectedEdgesStart(id); i < index.connectedEdgesStart(id + 1); i++) {
+                final int other = index.connectedEdgeId(i);
+                if (distances[other] == 0 && isRentable(index.getEdge(other), player)) {
+                    distances[other] = 1;
+                    queue[tail++] = other;
                 }
             }
         }
+        while (head < tail) {
+            final int id = queue[head++];
+            if (distances[id] >= maxDistance) {
+                continue;
+            }
+            for (int i = index.connectedEdgesStart(id); i < index.connectedEdgesStart(id + 1); i++) {
+                final int other = index.connectedEdgeId(i);
+                if (distances[other] == 0 && isRentable(index.getEdge(other), player)) {
+                    distances[other] = distances[id] + 1;
+                    queue[tail++] = other;
+                }
+            }
+        }
+
+        final Set<Edge> rentableRails = new HashSet<>();
+        for (int i = 0; i < tail; i++) {
+            rentableRails.add(index.getEdge(queue[i]));
+        }
+        return rentableRails;
+    }
 
-        return Collections.unmodifiableMap(rails);
+    /**
+     * Returns whether the given edge has a rail the given player can rent.
+     *
+     * @param edge   the edge to check
+     * @param player the player renting the rail
+     * @return {@code true} if the edge has a rail of another player only
+     */
+    private static boolean isRentable(final Edge edge, final Player player) {
+        return edge.hasRail() && !edge.getRailOwners().contains(player);
+    }
+
+    @Override
+    public long getRailVersion() {
+        trackRails();
+        return railVersion;
     }
 
     @Override
@@ -332,47 +708,19 @@ public class HexGridImpl implements HexGrid {
     @StudentImplementationRequired("P1.4")
     public Map<TilePosition, City> getConnectedCities() {
         // TODO: P1.4
-        Map<TilePosition, City> connectedCities = new HashMap<>();
-        Map<TilePosition, City> cities = this.getCities();
-        Map<Set<TilePosition>, Edge> edges = this.getEdges();
-
-        for (Map.Entry<Set<TilePosition>, Edge> entry : edges.entrySet())
-        {
-            Edge edge = entry.getValue();
-
-            if (edge.hasRail()==true)
-            {
-                for (TilePosition position : entry.getKey())
-                {
-                    if (cities.containsKey(position)==true)
-                    {
-                        connectedCities.put(position, cities.get(position));
-                    }
-                }
-            }
-        }
-        return Collections.unmodifiableMap(connectedCities);
+        return railConnectivity().getConnectedCities();
     }
 
     @Override
     @StudentImplementationRequired("P1.4")
     public Map<TilePosition, City> getUnconnectedCities() {
         // TODO: P1.4
-        Map<TilePosition, City> unconnectedCities = new HashMap<>();
-        Map<TilePosition, City> cities = this.getCities();
-        Map<TilePosition, City> connectedCities = this.getConnectedCities();
-
-        for (Map.Entry<TilePosition, City> entry : cities.entrySet())
-        {
-            TilePosition tilePosition = entry.getKey();
-            City city = entry.getValue();
+        return railConnectivity().getUnconnectedCities();
+    }
 
-            if (connectedCities.containsKey(tilePosition)==false)
-            {
-                unconnectedCities.put(tilePosition, city);
-            }
-        }
-        return Collections.unmodifiableMap(unconnectedCities);
+    @Override
+    public boolean isConnectedByRail(final TilePosition position0, final TilePosition position1) {
+        return railConnectivity().isConnected(position0, position1);
     }
 
     @Override
@@ -439,6 +787,40 @@ public class HexGridImpl implements HexGrid {
         return pathEdges.reversed();
     }
 
+    @Override
+    public List<Edge> findPath(TilePosition start, TilePosition target, Set<Edge> availableEdges,
+            BiFunction<TilePosition, TilePosition, Integer> edgeCostFunction, int minimumEdgeCost) {
+        final GridIndex index = index();
+        final int startTile = index.tileIndex(start);
+        if (!index.hasAllEdges() || startTile < 0 || index.getTile(startTile) == null) {
+            return findPath(start, target, availableEdges, edgeCostFunction);
+        }
+        final int targetTile = index.tileIndex(target);
+        if (targetTile < 0 || index.getTile(targetTile) == null) {
+            return List.of();
+        }
+        return new PathSearch(index, availableEdges, edgeCostFunction, minimumEdgeCost).find(startTile, targetTile);
+    }
+
+    @Override
+    public PathTree findPathTree(TilePosition start, Set<Edge> availableEdges,
+            BiFunction<TilePosition, TilePosition, Integer> edgeCostFunction) {
+        final GridIndex index = index();
+        final int startTile = index.tileIndex(start);
+        if (!index.hasAllEdges() || startTile < 0 || index.getTile(startTile) == null) {
+            return HexGrid.super.findPathTree(start, availableEdges, edgeCostFunction);
+        }
+        final PathSearch search = new PathSearch(index, availableEdges, edgeCostFunction, 0);
+        search.search(startTile, -1);
+        return target -> {
+            final int targetTile = index.tileIndex(target);
+            if (targetTile < 0 || index.getTile(targetTile) == null) {
+                return List.of();
+            }
+            return search.getPath(targetTile);
+        };
+    }
+
     @Override
     public String toString() {
         return "HexGridImpl [tiles=" + tiles + ", edges=" + edges + ", cities=" + cities + ", tileWidth=" + tileWidth
@@ -0,0 +1,129 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import hProjekt.model.TilePosition.EdgeDirection;
+
+/**
+ * Generates the terrain of a {@link HexGridImpl} from an explicit seed.
+ * Every random walk gets its own {@link SplittableRandom} stream split off in a
+ * fixed order, and the walks are run in parallel on a {@link ForkJoinPool}.
+ * The plains are generated in rounds. Each walk of a round starts on a tile
+ * generated by the previous rounds, so the walks of a round are independent of
+ * each other. The results are merged in the order of the walks, which makes the
+ * generated terrain the same for a given seed regardless of the number of
+ * threads.
+ */
+final class MapGenerator {
+    private final int scale;
+    private final ForkJoinPool pool;
+    private final SplittableRandom plainRandom;
+    private final SplittableRandom mountainRandom;
+    private final SplittableRandom cityRandom;
+
+    /**
+     * Creates a new generator.
+     *
+     * @param scale the scale of the map
+     * @param seed  the seed to generate the map from
+     * @param pool  the pool to run the random walks on
+     */
+    MapGenerator(final int scale, final long seed, final ForkJoinPool pool) {
+        this.scale = scale;
+        this.pool = pool;
+        final SplittableRandom random = new SplittableRandom(seed);
+        this.plainRandom = random.split();
+        this.mountainRandom = random.split();
+        this.cityRandom = random.split();
+    }
+
+    /**
+     * Generates the terrain of the map.
+     * The returned map iterates over the positions in a deterministic order.
+     *
+     * @return the type of every generated tile
+     */
+    Map<TilePosition, Tile.Type> generateTerrain() {
+        final TileOrder plains = new TileOrder();
+        plains.add(new TilePosition(0, 0));
+
+        final int plainWalks = 10 * scale;
+        int walksDone = 0;
+        while (walksDone < plainWalks) {
+            final int roundSize = Math.min(plainWalks - walksDone, Math.max(1, walksDone));
+            for (final List<TilePosition> walk : doRandomWalks(plains, plainRandom, roundSize, 3 * scale)) {
+                for (final TilePosition position : walk) {
+                    plains.add(position);
+                }
+            }
+            walksDone += roundSize;
+        }
+
+        final Map<TilePosition, Tile.Type> terrain = new LinkedHashMap<>();
+        for (final TilePosition position : plains) {
+            terrain.put(position, Tile.Type.PLAIN);
+        }
+        for (final List<TilePosition> walk : doRandomWalks(plains, mountainRandom, 4 * scale, (int) (0.5 * scale))) {
+            for (final TilePosition position : walk) {
+                terrain.put(position, Tile.Type.MOUNTAIN);
+            }
+        }
+        return terrain;
+    }
+
+    /**
+     * Returns the seed for placing the cities on the generated terrain.
+     *
+     * @return the seed for the city placement
+     */
+    long getCitySeed() {
+        return cityRandom.nextLong();
+    }
+
+    /**
+     * Performs the given number of random walks in parallel.
+     * Each walk starts at a random one of the given positions.
+     *
+     * @param starts the positions the walks may start at
+     * @param random the stream to split the streams of the walks from
+     * @param amount the number of walks
+     * @param length the length of each walk
+     * @return the positions visited by each walk, in the order of the walks
+     */
+    private List<List<TilePosition>> doRandomWalks(final TileOrder starts, final SplittableRandom random,
+            final int amount, final int length) {
+        final SplittableRandom[] walkRandoms = new SplittableRandom[amount];
+        for (int i = 0; i < amount; i++) {
+            walkRandoms[i] = random.split();
+        }
+        return pool.submit(() -> IntStream.range(0, amount).parallel()
+                .mapToObj(i -> doRandomWalk(starts, walkRandoms[i], length))
+                .toList()).join();
+    }
+
+    /**
+     * Performs a random walk of the given length starting at a random one of the
+     * given positions.
+     *
+     * @param starts the positions the walk may start at
+     * @param random the stream of the walk
+     * @param length the length of the walk
+     * @return the positions visited by the walk, excluding the start
+     */
+    private static List<TilePosition> doRandomWalk(final TileOrder starts, final SplittableRandom random,
+            final int length) {
+        final List<TilePosition> walk = new ArrayList<>(length);
+        TilePosition current = starts.sample(random);
+        for (int i = 0; i < length; i++) {
+            current = TilePosition.neighbour(current, EdgeDirection.VALUES.get(random.nextInt(EdgeDirection.SIZE)));
+            walk.add(current);
+        }
+        return walk;
+    }
+}
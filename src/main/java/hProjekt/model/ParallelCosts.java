@@ -0,0 +1,211 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches the parallel costs of the edges in a {@link GridIndex}.
+ * For every edge the rail owners of the edge itself and of the other edges at
+ * its endpoints are captured once, and the resulting costs are stored as
+ * primitive arrays indexed by player id.
+ * The cached values of an edge have to be invalidated whenever a rail changes on
+ * the edge itself or on a connected edge.
+ *
+ * @see Edge#getParallelCostPerPlayer(Player)
+ */
+final class ParallelCosts {
+    /**
+     * The biggest player id that is cached. Players with bigger ids are computed
+     * without the cache.
+     */
+    private static final int MAX_CACHED_PLAYER_ID = 63;
+
+    private final GridIndex index;
+    private final Map<TilePosition, City> cities;
+    private final Entry[] entries;
+
+    /**
+     * Creates a new, empty cache for the edges of the given index.
+     *
+     * @param index  the index containing the edges
+     * @param cities the cities of the grid
+     */
+    ParallelCosts(final GridIndex index, final Map<TilePosition, City> cities) {
+        this.index = index;
+        this.cities = cities;
+        this.entries = new Entry[index.edgeCount()];
+    }
+
+    /**
+     * Returns whether this cache has been created for the given index.
+     *
+     * @param index the index
+     * @return whether this cache belongs to the given index
+     */
+    boolean isFor(final GridIndex index) {
+        return this.index == index;
+    }
+
+    /**
+     * Invalidates the cached values of the edge with the given id and of all
+     * edges connected to it.
+     *
+     * @param id the id of the edge whose rails have changed
+     */
+    void invalidate(final int id) {
+        entries[id] = null;
+        for (int i = index.connectedEdgesStart(id); i < index.connectedEdgesStart(id + 1); i++) {
+            entries[index.connectedEdgeId(i)] = null;
+        }
+    }
+
+    /**
+     * Returns the parallel costs the given player has to pay to build on the edge
+     * with the given id, indexed by the id of the receiving player.
+     * The returned array is shared and must not be modified.
+     *
+     * @param id     the id of the edge
+     * @param player the player that wants to build
+     * @return the parallel costs per player id or {@code null} if the involved
+     *         players cannot be cached
+     */
+    int[] getCosts(final int id, final Player player) {
+        Entry entry = entries[id];
+        if (entry == null) {
+            entry = new Entry(id);
+            entries[id] = entry;
+        }
+        return entry.costsFor(player);
+    }
+
+    /**
+     * Returns the player with the given id that is involved in the parallel costs
+     * of the edge with the given id.
+     *
+     * @param id       the id of the edge
+     * @param playerId the id of the player
+     * @return the player with the given id
+     */
+    Player getPlayer(final int id, final int playerId) {
+        return entries[id].playersById[playerId];
+    }
+
+    /**
+     * Returns a copy of the current owners of the given edge.
+     *
+     * @param edge the edge
+     * @return a copy of the current owners of the given edge
+     */
+    private static List<Player> ownersOf(final Edge edge) {
+        final List<Player> owners = edge.getRailOwners();
+        return owners == null ? List.of() : List.copyOf(owners);
+    }
+
+    /**
+     * The rail owners relevant for the parallel costs of a single edge.
+     */
+    private final class Entry {
+        private final List<Player> owners;
+        private final int ownerCost;
+        private final List<List<Player>> endpointOwners = new ArrayList<>(2);
+        private final Player[] playersById;
+        private final boolean cacheable;
+        private int[][] costsByPlayerId = new int[0][];
+
+        /**
+         * Captures the rail owners relevant for the edge with the given id.
+         *
+         * @param id the id of the edge
+         */
+        private Entry(final int id) {
+            final Edge edge = index.getEdge(id);
+            this.owners = ownersOf(edge);
+            final boolean atCity = cities.containsKey(edge.getPosition1()) || cities.containsKey(edge.getPosition2());
+            this.ownerCost = atCity ? 3 : 5;
+
+            final List<Player> involved = new ArrayList<>(owners);
+            for (final TilePosition position : List.of(edge.getPosition1(), edge.getPosition2())) {
+                final List<Player> players = new ArrayList<>();
+                final int tile = index.tileIndex(position);
+                if (!cities.containsKey(position) && tile >= 0 && index.getTile(tile) != null) {
+                    for (final Edge other : index.getEdges(tile)) {
+                        if (other.equals(edge)) {
+                            continue;
+                        }
+                        for (final Player owner : ownersOf(other)) {
+                            if (!players.contains(owner)) {
+                                players.add(owner);
+                            }
+                        }
+                    }
+                }
+                endpointOwners.add(players);
+                involved.addAll(players);
+            }
+
+            boolean cacheable = true;
+            int maxId = 0;
+            for (final Player player : involved) {
+                if (player.getID() < 0 || player.getID() > MAX_CACHED_PLAYER_ID) {
+                    cacheable = false;
+                } else {
+                    maxId = Math.max(maxId, player.getID());
+                }
+            }
+            this.playersById = new Player[maxId + 1];
+            for (final Player player : involved) {
+                if (!cacheable) {
+                    break;
+                }
+                final Player previous = playersById[player.getID()];
+                if (previous != null && !previous.equals(player)) {
+                    cacheable = false;
+                }
+                playersById[player.getID()] = player;
+            }
+            this.cacheable = cacheable;
+        }
+
+        /**
+         * Returns the parallel costs the given player has to pay, indexed by the id
+         * of the receiving player.
+         *
+         * @param player the player that wants to build
+         * @return the parallel costs per player id or {@code null} if the involved
+         *         players cannot be cached
+         */
+        private int[] costsFor(final Player player) {
+            final int playerId = player.getID();
+            if (!cacheable || playerId < 0 || playerId > MAX_CACHED_PLAYER_ID) {
+                return null;
+            }
+            if (playerId < costsByPlayerId.length && costsByPlayerId[playerId] != null) {
+                return costsByPlayerId[playerId];
+            }
+
+            final int[] costs = new int[playersById.length];
+            if (!owners.isEmpty() && !(owners.size() == 1 && owners.contains(player))) {
+                for (final Player owner : owners) {
+                    costs[owner.getID()] = ownerCost;
+                }
+            }
+            for (final List<Player> players : endpointOwners) {
+                if (players.contains(player)) {
+                    continue;
+                }
+                for (final Player owner : players) {
+                    costs[owner.getID()] = Math.max(costs[owner.getID()], 1);
+                }
+            }
+
+            if (playerId >= costsByPlayerId.length) {
+                final int[][] grown = new int[playerId + 1][];
+                System.arraycopy(costsByPlayerId, 0, grown, 0, costsByPlayerId.length);
+                costsByPlayerId = grown;
+            }
+            costsByPlayerId[playerId] = costs;
+            return costs;
+        }
+    }
+}
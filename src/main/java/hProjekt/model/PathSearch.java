@@ -0,0 +1,252 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import hProjekt.model.TilePosition.EdgeDirection;
+
+/**
+ * A* search over the tiles of a {@link GridIndex}.
+ * Uses the axial hex distance to the target scaled by the minimum edge cost as
+ * heuristic. All state is kept in primitive arrays indexed by tile index and the
+ * open set is an indexed binary heap, so no positions or distances are boxed.
+ * Ties are broken in favour of tiles closer to the target and then by tile
+ * index, which makes the search deterministic.
+ */
+final class PathSearch {
+    private final GridIndex index;
+    private final boolean[] availableEdges;
+    private final BiFunction<TilePosition, TilePosition, Integer> edgeCostFunction;
+    private final int minimumEdgeCost;
+
+    private final int[] distance;
+    private final int[] estimate;
+    private final int[] previous;
+    private final boolean[] closed;
+    private final int[] heap;
+    private final int[] heapPosition;
+    private int heapSize;
+    private int start = -1;
+    private TilePosition targetPosition;
+
+    /**
+     * Creates a new search over the given edges.
+     *
+     * @param index            the index of the grid
+     * @param availableEdges   the edges to search for the path
+     * @param edgeCostFunction the function to calculate the cost of an edge
+     * @param minimumEdgeCost  a lower bound for the cost of every edge
+     */
+    PathSearch(final GridIndex index, final Set<Edge> availableEdges,
+            final BiFunction<TilePosition, TilePosition, Integer> edgeCostFunction, final int minimumEdgeCost) {
+        this.index = index;
+        this.availableEdges = new boolean[index.edgeCount()];
+        for (final Edge edge : availableEdges) {
+            final int id = index.edgeId(edge);
+            if (id >= 0) {
+                this.availableEdges[id] = true;
+            }
+        }
+        this.edgeCostFunction = edgeCostFunction;
+        this.minimumEdgeCost = Math.max(0, minimumEdgeCost);
+        this.distance = new int[index.capacity()];
+        this.estimate = new int[index.capacity()];
+        this.previous = new int[index.capacity()];
+        this.closed = new boolean[index.capacity()];
+        this.heap = new int[index.capacity()];
+        this.heapPosition = new int[index.capacity()];
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        Arrays.fill(previous, -1);
+        Arrays.fill(heapPosition, -1);
+    }
+
+    /**
+     * Returns the axial hex distance between the given positions.
+     *
+     * @param position0 the first position
+     * @param position1 the second position
+     * @return the number of steps between the given positions
+     */
+    private static int hexDistance(final TilePosition position0, final TilePosition position1) {
+        final int dq = position0.q() - position1.q();
+        final int dr = position0.r() - position1.r();
+        return (Math.abs(dq) + Math.abs(dr) + Math.abs(dq + dr)) / 2;
+    }
+
+    /**
+     * Finds the shortest path between the tiles with the given indices.
+     *
+     * @param start  the index of the start tile
+     * @param target the index of the target tile
+     * @return the edges of the shortest path or an empty list if there is none
+     */
+    List<Edge> find(final int start, final int target) {
+        search(start, target);
+        return getPath(target);
+    }
+
+    /**
+     * Searches the shortest paths starting at the tile with the given index.
+     * The search stops as soon as the target has been reached. If no target is
+     * given, the shortest paths to all reachable tiles are computed and no
+     * heuristic is used.
+     *
+     * @param start  the index of the start tile
+     * @param target the index of the target tile or {@code -1} to search all tiles
+     */
+    void search(final int start, final int target) {
+        this.start = start;
+        this.targetPosition = target < 0 ? null : index.getTile(target).getPosition();
+        distance[start] = 0;
+        push(start, heuristic(index.getTile(start).getPosition()));
+
+        while (heapSize > 0) {
+            final int current = pop();
+            if (current == target) {
+                break;
+            }
+            closed[current] = true;
+            final TilePosition currentPosition = index.getTile(current).getPosition();
+            for (int direction = 0; direction < EdgeDirection.SIZE; direction++) {
+                final Tile neighbour = index.getNeighbour(current, direction);
+                if (neighbour == null) {
+                    continue;
+                }
+                final Edge edge = index.getEdge(currentPosition.q(), currentPosition.r(), direction);
+                if (edge == null || !availableEdges[index.edgeId(edge)]) {
+                    continue;
+                }
+                final int next = index.tileIndex(neighbour.getPosition());
+                if (closed[next]) {
+                    continue;
+                }
+                final int newDistance = distance[current]
+                        + edgeCostFunction.apply(currentPosition, neighbour.getPosition());
+                if (newDistance < distance[next]) {
+                    distance[next] = newDistance;
+                    previous[next] = current;
+                    push(next, newDistance + heuristic(neighbour.getPosition()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the estimated cost of the path from the given position to the
+     * target.
+     *
+     * @param position the position
+     * @return the estimated remaining cost or {@code 0} if there is no target
+     */
+    private int heuristic(final TilePosition position) {
+        return targetPosition == null ? 0 : minimumEdgeCost * hexDistance(position, targetPosition);
+    }
+
+    /**
+     * Returns the path found by the last search from the start tile to the tile
+     * with the given index.
+     * The path is only guaranteed to be the shortest if the search has not been
+     * stopped before reaching the given tile.
+     *
+     * @param target the index of the target tile
+     * @return the edges of the path or an empty list if there is none
+     */
+    List<Edge> getPath(final int target) {
+        if (target != start && previous[target] < 0) {
+            return List.of();
+        }
+        final List<Edge> pathEdges = new ArrayList<>();
+        for (int current = target; current != start; current = previous[current]) {
+            final TilePosition from = index.getTile(previous[current]).getPosition();
+            final TilePosition to = index.getTile(current).getPosition();
+            pathEdges.add(index.getEdge(from.q(), from.r(), to.q(), to.r()));
+        }
+        return pathEdges.reversed();
+    }
+
+    /**
+     * Returns whether the first tile should be expanded before the second tile.
+     *
+     * @param tile0 the index of the first tile
+     * @param tile1 the index of the second tile
+     * @return whether the first tile has a higher priority
+     */
+    private boolean before(final int tile0, final int tile1) {
+        if (estimate[tile0] != estimate[tile1]) {
+            return estimate[tile0] < estimate[tile1];
+        }
+        if (distance[tile0] != distance[tile1]) {
+            return distance[tile0] > distance[tile1];
+        }
+        return tile0 < tile1;
+    }
+
+    /**
+     * Adds the given tile to the open set or decreases its estimate if it is
+     * already contained.
+     *
+     * @param tile         the index of the tile
+     * @param tileEstimate the estimated cost of a path through the tile
+     */
+    private void push(final int tile, final int tileEstimate) {
+        estimate[tile] = tileEstimate;
+        int position = heapPosition[tile];
+        if (position < 0) {
+            position = heapSize++;
+        }
+        while (position > 0) {
+            final int parent = (position - 1) / 2;
+            if (!before(tile, heap[parent])) {
+                break;
+            }
+            move(heap[parent], position);
+            position = parent;
+        }
+        move(tile, position);
+    }
+
+    /**
+     * Removes the tile with the highest priority from the open set.
+     *
+     * @return the index of the removed tile
+     */
+    private int pop() {
+        final int first = heap[0];
+        heapPosition[first] = -1;
+        final int last = heap[--heapSize];
+        if (heapSize == 0) {
+            return first;
+        }
+        int position = 0;
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], last)) {
+                break;
+            }
+            move(heap[child], position);
+            position = child;
+        }
+        move(last, position);
+        return first;
+    }
+
+    /**
+     * Places the given tile at the given position of the heap.
+     *
+     * @param tile     the index of the tile
+     * @param position the position in the heap
+     */
+    private void move(final int tile, final int position) {
+        heap[position] = tile;
+        heapPosition[tile] = position;
+    }
+}
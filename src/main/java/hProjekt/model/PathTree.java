@@ -0,0 +1,21 @@
+package hProjekt.model;
+
+import java.util.List;
+
+/**
+ * The shortest paths from a fixed start position to the positions of a
+ * {@link HexGrid}.
+ *
+ * @see HexGrid#findPathTree(TilePosition, java.util.Set,
+ *      java.util.function.BiFunction)
+ */
+@FunctionalInterface
+public interface PathTree {
+    /**
+     * Returns the shortest path from the start position to the given target.
+     *
+     * @param target the target position
+     * @return the shortest path to the target or an empty list if there is none
+     */
+    List<Edge> getPath(TilePosition target);
+}
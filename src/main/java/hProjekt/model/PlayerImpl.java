@@ -1,6 +1,7 @@
 package hProjekt.model;
 
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import org.jetbrains.annotations.Nullable;
@@ -137,6 +138,7 @@ public class PlayerImpl implements Player {
         private Color color;
         private @Nullable String name;
         private @Nullable Class<? extends AiController> aiController;
+        private final Random random;
 
         /**
          * Creates a new builder for a player with the given id.
@@ -144,7 +146,19 @@ public class PlayerImpl implements Player {
          * @param id the id of the player to create
          */
         public Builder(final int id) {
+            this(id, Config.RANDOM);
+        }
+
+        /**
+         * Creates a new builder for a player with the given id that chooses a
+         * random color using the given random.
+         *
+         * @param id     the id of the player to create
+         * @param random the random to choose the color with
+         */
+        public Builder(final int id, final Random random) {
             this.id = id;
+            this.random = random;
             color(null);
         }
 
@@ -166,9 +180,9 @@ public class PlayerImpl implements Player {
         public Builder color(final Color playerColor) {
             this.color = playerColor == null
                     ? new Color(
-                            Config.RANDOM.nextDouble(),
-                            Config.RANDOM.nextDouble(),
-                            Config.RANDOM.nextDouble(),
+                            random.nextDouble(),
+                            random.nextDouble(),
+                            random.nextDouble(),
                             1)
                     : playerColor;
             return this;
@@ -0,0 +1,158 @@
+package hProjekt.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of which tiles of a {@link HexGridImpl} are connected by rails
+ * and which cities are connected to a rail at all.
+ * Uses a disjoint-set over the tile indices of a {@link GridIndex} that is
+ * updated incrementally when rails are added. Removing rails is rare, so the
+ * structure is simply rebuilt in that case.
+ */
+final class RailConnectivity {
+    private final GridIndex index;
+    private final Map<TilePosition, City> cities;
+    private final int[] parent;
+    private final int[] size;
+    private final Map<TilePosition, City> connectedCities = new HashMap<>();
+    private final Map<TilePosition, City> unconnectedCities = new HashMap<>();
+    private final Map<TilePosition, City> connectedCitiesView = Collections.unmodifiableMap(connectedCities);
+    private final Map<TilePosition, City> unconnectedCitiesView = Collections.unmodifiableMap(unconnectedCities);
+
+    /**
+     * Creates a new connectivity tracker for the given cities and edges.
+     *
+     * @param index  the index of the grid
+     * @param cities the cities of the grid
+     * @param edges  the edges of the grid
+     */
+    RailConnectivity(final GridIndex index, final Map<TilePosition, City> cities, final Collection<Edge> edges) {
+        this.index = index;
+        this.cities = cities;
+        this.parent = new int[index.capacity()];
+        this.size = new int[index.capacity()];
+        reset(edges);
+    }
+
+    /**
+     * Rebuilds this structure from scratch using the rails on the given edges.
+     *
+     * @param edges the edges of the grid
+     */
+    void reset(final Collection<Edge> edges) {
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        connectedCities.clear();
+        unconnectedCities.clear();
+        unconnectedCities.putAll(cities);
+        for (final Edge edge : edges) {
+            if (edge.hasRail()) {
+                addRail(edge);
+            }
+        }
+    }
+
+    /**
+     * Records that a rail has been built on the given edge.
+     * Calling this method multiple times for the same edge has no further effect.
+     *
+     * @param edge the edge a rail has been built on
+     */
+    void addRail(final Edge edge) {
+        connectCity(edge.getPosition1());
+        connectCity(edge.getPosition2());
+        final int tile1 = index.tileIndex(edge.getPosition1());
+        final int tile2 = index.tileIndex(edge.getPosition2());
+        if (tile1 >= 0 && tile2 >= 0) {
+            union(tile1, tile2);
+        }
+    }
+
+    /**
+     * Marks the city at the given position as connected, if there is one.
+     *
+     * @param position the position of the city
+     */
+    private void connectCity(final TilePosition position) {
+        final City city = unconnectedCities.remove(position);
+        if (city != null) {
+            connectedCities.put(position, city);
+        }
+    }
+
+    /**
+     * Returns the representative of the set containing the given tile index.
+     * Compresses the path on the way.
+     *
+     * @param tile the tile index
+     * @return the representative of the set
+     */
+    private int find(int tile) {
+        while (parent[tile] != tile) {
+            parent[tile] = parent[parent[tile]];
+            tile = parent[tile];
+        }
+        return tile;
+    }
+
+    /**
+     * Merges the sets containing the given tile indices, attaching the smaller set
+     * to the bigger one.
+     *
+     * @param tile1 the first tile index
+     * @param tile2 the second tile index
+     */
+    private void union(final int tile1, final int tile2) {
+        int root1 = find(tile1);
+        int root2 = find(tile2);
+        if (root1 == root2) {
+            return;
+        }
+        if (size[root1] < size[root2]) {
+            final int swap = root1;
+            root1 = root2;
+            root2 = swap;
+        }
+        parent[root2] = root1;
+        size[root1] += size[root2];
+    }
+
+    /**
+     * Returns whether the given positions are connected by rails of any player.
+     *
+     * @param position0 the first position
+     * @param position1 the second position
+     * @return whether the given positions are connected by rails
+     */
+    boolean isConnected(final TilePosition position0, final TilePosition position1) {
+        if (position0.equals(position1)) {
+            return true;
+        }
+        final int tile0 = index.tileIndex(position0);
+        final int tile1 = index.tileIndex(position1);
+        return tile0 >= 0 && tile1 >= 0 && find(tile0) == find(tile1);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of all cities connected to a rail.
+     *
+     * @return all cities connected to a rail
+     */
+    Map<TilePosition, City> getConnectedCities() {
+        return connectedCitiesView;
+    }
+
+    /**
+     * Returns a live, unmodifiable view of all cities not connected to a rail.
+     *
+     * @return all cities not connected to a rail
+     */
+    Map<TilePosition, City> getUnconnectedCities() {
+        return unconnectedCitiesView;
+    }
+}
@@ -0,0 +1,163 @@
+package hProjekt.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps track of the rails each {@link Player} owns in a {@link HexGridImpl}.
+ * The index is updated incrementally whenever the owners of an edge change, so
+ * the rails of a player can be queried without scanning all edges.
+ * It also keeps the build frontier of every player, the edges sharing a
+ * position with a rail of the player that the player does not own yet. The
+ * frontier of a player is only computed once it is first requested.
+ */
+final class RailIndex {
+    private final Map<Player, Map<Set<TilePosition>, Edge>> railsByPlayer = new HashMap<>();
+    private final Map<Player, Map<Set<TilePosition>, Edge>> railViewsByPlayer = new HashMap<>();
+    private final Map<Edge, List<Player>> indexedOwners = new IdentityHashMap<>();
+    private final Map<Player, Set<Edge>> frontierByPlayer = new HashMap<>();
+    private final Map<Player, Set<Edge>> frontierViewsByPlayer = new HashMap<>();
+
+    /**
+     * Creates a new index over the rails built on the given edges.
+     *
+     * @param edges the edges of the grid
+     */
+    RailIndex(final Map<Set<TilePosition>, Edge> edges) {
+        for (final Map.Entry<Set<TilePosition>, Edge> entry : edges.entrySet()) {
+            final List<Player> owners = ownersOf(entry.getValue());
+            indexedOwners.put(entry.getValue(), owners);
+            for (final Player owner : owners) {
+                rails(owner).put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the current owners of the given edge.
+     *
+     * @param edge the edge
+     * @return a copy of the current owners of the given edge
+     */
+    private static List<Player> ownersOf(final Edge edge) {
+        final List<Player> owners = edge.getRailOwners();
+        return owners == null ? List.of() : List.copyOf(owners);
+    }
+
+    /**
+     * Returns the modifiable rail map of the given player, creating it if
+     * necessary.
+     *
+     * @param player the player
+     * @return the modifiable rail map of the given player
+     */
+    private Map<Set<TilePosition>, Edge> rails(final Player player) {
+        return railsByPlayer.computeIfAbsent(player, p -> {
+            final Map<Set<TilePosition>, Edge> rails = new HashMap<>();
+            railViewsByPlayer.put(p, Collections.unmodifiableMap(rails));
+            return rails;
+        });
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the rails of the given player.
+     *
+     * @param player the player
+     * @return the rails of the given player
+     */
+    Map<Set<TilePosition>, Edge> getRails(final Player player) {
+        rails(player);
+        return railViewsByPlayer.get(player);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the build frontier of the given
+     * player, computing the frontier if it was not requested before.
+     *
+     * @param player the player
+     * @return the build frontier of the given player
+     */
+    Set<Edge> getFrontier(final Player player) {
+        if (!frontierByPlayer.containsKey(player)) {
+            final Set<Edge> frontier = new HashSet<>();
+            frontierByPlayer.put(player, frontier);
+            frontierViewsByPlayer.put(player, Collections.unmodifiableSet(frontier));
+            rebuildFrontier(player);
+        }
+        return frontierViewsByPlayer.get(player);
+    }
+
+    /**
+     * Adds the edges next to the given new rail of the given player to the build
+     * frontier of the player and removes the rail itself.
+     * Does nothing if the frontier of the player was not computed yet.
+     *
+     * @param player the player who built the rail
+     * @param rail   the new rail
+     */
+    private void extendFrontier(final Player player, final Edge rail) {
+        final Set<Edge> frontier = frontierByPlayer.get(player);
+        if (frontier == null) {
+            return;
+        }
+        frontier.remove(rail);
+        for (final Edge edge : rail.getConnectedEdges()) {
+            if (!edge.getRailOwners().contains(player)) {
+                frontier.add(edge);
+            }
+        }
+    }
+
+    /**
+     * Recomputes the build frontier of the given player from all of its rails.
+     * Used after a rail of the player was removed, because the edges next to it
+     * may still be next to another rail.
+     * Does nothing if the frontier of the player was not computed yet.
+     *
+     * @param player the player
+     */
+    private void rebuildFrontier(final Player player) {
+        final Set<Edge> frontier = frontierByPlayer.get(player);
+        if (frontier == null) {
+            return;
+        }
+        frontier.clear();
+        for (final Edge rail : rails(player).values()) {
+            extendFrontier(player, rail);
+        }
+    }
+
+    /**
+     * Updates the index after the owners of the given edge have changed.
+     *
+     * @param edge the edge whose owners have changed
+     * @return whether the owners differ from the previously indexed owners
+     */
+    boolean update(final Edge edge) {
+        final List<Player> previousOwners = indexedOwners.getOrDefault(edge, List.of());
+        final List<Player> currentOwners = ownersOf(edge);
+        if (previousOwners.equals(currentOwners)) {
+            return false;
+        }
+        final Set<TilePosition> key = edge.getAdjacentTilePositions();
+        for (final Player owner : previousOwners) {
+            if (!currentOwners.contains(owner)) {
+                rails(owner).remove(key);
+                rebuildFrontier(owner);
+            }
+        }
+        for (final Player owner : currentOwners) {
+            if (!previousOwners.contains(owner)) {
+                rails(owner).put(key, edge);
+                extendFrontier(owner, edge);
+            }
+        }
+        indexedOwners.put(edge, currentOwners);
+        return true;
+    }
+}
@@ -39,6 +39,23 @@ public record TileImpl(TilePosition position, Type type, ObservableDoubleValue h
         this(new TilePosition(q, r), type, heightProperty, widthProperty, hexGrid);
     }
 
+    /**
+     * Returns the {@link GridIndex} of the grid this tile is placed in or
+     * {@code null} if the grid is not indexed or the index does not contain this
+     * tile.
+     *
+     * @return the {@link GridIndex} containing this tile or {@code null}
+     */
+    private GridIndex gridIndex() {
+        if (hexGrid instanceof HexGridImpl grid) {
+            final GridIndex index = grid.index();
+            if (equals(index.getTile(position.q(), position.r()))) {
+                return index;
+            }
+        }
+        return null;
+    }
+
     @Override
     public TilePosition getPosition() {
         return position;
@@ -53,18 +70,9 @@ public record TileImpl(TilePosition position, Type type, ObservableDoubleValue h
     @StudentImplementationRequired("P1.4")
     public Edge getEdge(final EdgeDirection direction) {
         // TODO: P1.4
-
-        Tile neighbour = this.getNeighbour(direction);
-        if (neighbour == null)
-        {
-            return null;
-        }
-
-        return getHexGrid().getEdge(this.getPosition(), neighbour.getPosition());
+        return getHexGrid().getEdge(this.getPosition(), direction);
     }
 
-
-
     @Override
     public boolean hasCity() {
         return getHexGrid().getCityAt(position) != null;
@@ -72,6 +80,10 @@ public record TileImpl(TilePosition position, Type type, ObservableDoubleValue h
 
     @Override
     public Set<Edge> getEdges() {
+        final GridIndex index = gridIndex();
+        if (index != null) {
+            return index.getEdges(index.tileIndex(position));
+        }
         return Collections.unmodifiableSet(
                 EdgeDirection.stream().map(this::getEdge).filter(edge -> edge != null).collect(Collectors.toSet()));
     }
@@ -83,6 +95,10 @@ public record TileImpl(TilePosition position, Type type, ObservableDoubleValue h
 
     @Override
     public Set<Tile> getNeighbours() {
+        final GridIndex index = gridIndex();
+        if (index != null) {
+            return index.getNeighbours(index.tileIndex(position));
+        }
         return getHexGrid().getTiles().entrySet().stream()
                 .filter(entrySet -> TilePosition.neighbours(getPosition()).contains(entrySet.getKey()))
                 .map(Map.Entry::getValue).collect(Collectors.toSet());
@@ -92,39 +108,19 @@ public record TileImpl(TilePosition position, Type type, ObservableDoubleValue h
     @StudentImplementationRequired("P1.4")
     public Tile getNeighbour(final EdgeDirection direction) {
         // TODO: P1.4
-
-        if (direction.equals(EdgeDirection.EAST)==true)
-        {
-             return this.getHexGrid().getTileAt(this.position.q()+1, this.position().r());
-        }
-        else if (direction.equals(EdgeDirection.NORTH_EAST)==true)
-        {
-            return this.getHexGrid().getTileAt(this.position.q()+1, this.position().r()-1);
-        }
-        else if (direction.equals(EdgeDirection.NORTH_WEST)==true)
-        {
-            return this.getHexGrid().getTileAt(this.position.q(), this.position().r()-1);
-        }
-        else if (direction.equals(EdgeDirection.WEST)==true)
-        {
-            return this.getHexGrid().getTileAt(this.position.q()-1, this.position().r());
-        }
-        else if (direction.equals(EdgeDirection.SOUTH_WEST)==true)
-        {
-            return  this.getHexGrid().getTileAt(this.position.q()-1, this.position().r()+1);
-        }
-        else if (direction.equals(EdgeDirection.SOUTH_EAST)==true)
-        {
-            return this.getHexGrid().getTileAt(this.position.q(), this.position().r()+1);
-        }
-        else
-        {
-            return null;
+        final GridIndex index = gridIndex();
+        if (index != null) {
+            return index.getNeighbour(index.tileIndex(position), direction.ordinal());
         }
+        return this.getHexGrid().getTileAt(TilePosition.neighbour(this.position, direction));
     }
 
     @Override
     public boolean isAtCoast() {
+        final GridIndex index = gridIndex();
+        if (index != null) {
+            return index.isAtCoast(index.tileIndex(position));
+        }
         return getNeighbours().size() < 6;
     }
 
@@ -138,6 +134,11 @@ public record TileImpl(TilePosition position, Type type, ObservableDoubleValue h
        {
            Set<TilePosition> adjacentTilePositions = edge.getAdjacentTilePositions();
 
+           if (!adjacentTilePositions.contains(getPosition()))
+           {
+               continue;
+           }
+
            for (TilePosition adjacentTilePosition : adjacentTilePositions)
            {
                Tile neighbour = getHexGrid().getTileAt(adjacentTilePosition);
@@ -156,6 +157,12 @@ public record TileImpl(TilePosition position, Type type, ObservableDoubleValue h
         return getEdges().stream().filter(edge -> edge.getRailOwners().contains(player)).collect(Collectors.toSet());
     }
 
+    @Override
+    public int hashCode() {
+        // a tile is identified by its position, the bindings and the grid hash by identity
+        return position.hashCode();
+    }
+
     @Override
     public String toString() {
         return "TileImpl[" +
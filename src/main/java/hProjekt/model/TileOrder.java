@@ -0,0 +1,77 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Set of tile positions that keeps its positions in the order they were added.
+ * The positions are stored in a list, so the {@code i}-th position can be looked
+ * up and a random position can be sampled in constant time.
+ */
+final class TileOrder implements Iterable<TilePosition> {
+    private final List<TilePosition> positions = new ArrayList<>();
+    private final Set<TilePosition> contained = new HashSet<>();
+
+    /**
+     * Adds the given position if it is not part of this set yet.
+     *
+     * @param position the position to add
+     * @return whether the position has been added
+     */
+    boolean add(final TilePosition position) {
+        if (!contained.add(position)) {
+            return false;
+        }
+        positions.add(position);
+        return true;
+    }
+
+    /**
+     * Returns the number of positions in this set.
+     *
+     * @return the number of positions
+     */
+    int size() {
+        return positions.size();
+    }
+
+    /**
+     * Returns the position that has been added at the given index.
+     *
+     * @param index the index of the position
+     * @return the position at the given index
+     */
+    TilePosition get(final int index) {
+        return positions.get(index);
+    }
+
+    /**
+     * Returns a random position of this set, with every position being equally
+     * likely.
+     *
+     * @param random the random generator to sample with
+     * @return a random position
+     * @throws IllegalStateException if this set is empty
+     */
+    TilePosition sample(final RandomGenerator random) {
+        if (positions.isEmpty()) {
+            throw new IllegalStateException("There is no position to sample");
+        }
+        return positions.get(random.nextInt(positions.size()));
+    }
+
+    /**
+     * Returns an iterator over the positions in the order they were added.
+     *
+     * @return an iterator over the positions
+     */
+    @Override
+    public Iterator<TilePosition> iterator() {
+        return Collections.unmodifiableList(positions).iterator();
+    }
+}
@@ -0,0 +1,96 @@
+package hProjekt.model;
+
+import hProjekt.model.TilePosition.EdgeDirection;
+
+/**
+ * Iterates over rings and spirals of positions around a center without
+ * allocating.
+ * The positions are visited in the same order as by
+ * {@link TilePosition#forEachRing(TilePosition, int, java.util.function.BiPredicate)}
+ * and
+ * {@link TilePosition#forEachSpiral(TilePosition, int, java.util.function.BiPredicate)},
+ * but passed to the visitor as plain coordinates.
+ */
+final class TileRings {
+    private static final int[] DQ = new int[EdgeDirection.SIZE];
+    private static final int[] DR = new int[EdgeDirection.SIZE];
+
+    static {
+        for (final EdgeDirection direction : EdgeDirection.VALUES) {
+            DQ[direction.ordinal()] = direction.position.q();
+            DR[direction.ordinal()] = direction.position.r();
+        }
+    }
+
+    /**
+     * A function that is executed on a position of a ring.
+     */
+    @FunctionalInterface
+    interface PositionVisitor {
+        /**
+         * Visits the given position.
+         *
+         * @param q      the q-coordinate of the position
+         * @param r      the r-coordinate of the position
+         * @param radius the radius of the ring the position lies on
+         * @param side   the index of the side of the ring the position lies on
+         * @param index  the index of the position on its side
+         * @return {@code true} to stop the iteration, {@code false} to continue
+         */
+        boolean visit(int q, int r, int radius, int side, int index);
+    }
+
+    private TileRings() {
+    }
+
+    /**
+     * Executes the given visitor on each position on a ring with the given radius
+     * around the given center.
+     * If the visitor returns {@code true}, the iteration stops early.
+     *
+     * @param centerQ the q-coordinate of the center
+     * @param centerR the r-coordinate of the center
+     * @param radius  the radius of the ring
+     * @param visitor the visitor to execute
+     * @return whether the iteration was stopped by the visitor
+     */
+    static boolean forEachRing(final int centerQ, final int centerR, final int radius,
+            final PositionVisitor visitor) {
+        if (radius == 0) {
+            return visitor.visit(centerQ, centerR, 0, 0, 0);
+        }
+        int q = centerQ + DQ[4] * radius;
+        int r = centerR + DR[4] * radius;
+        for (int side = 0; side < EdgeDirection.SIZE; side++) {
+            for (int tile = 0; tile < radius; tile++) {
+                if (visitor.visit(q, r, radius, side, tile)) {
+                    return true;
+                }
+                q += DQ[side];
+                r += DR[side];
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Executes the given visitor on each position on a spiral with the given
+     * radius around the given center.
+     * If the visitor returns {@code true}, the iteration stops early.
+     *
+     * @param centerQ the q-coordinate of the center
+     * @param centerR the r-coordinate of the center
+     * @param radius  the radius of the spiral including the center
+     * @param visitor the visitor to execute
+     * @return whether the iteration was stopped by the visitor
+     */
+    static boolean forEachSpiral(final int centerQ, final int centerR, final int radius,
+            final PositionVisitor visitor) {
+        for (int i = 0; i < radius; i++) {
+            if (forEachRing(centerQ, centerR, i, visitor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
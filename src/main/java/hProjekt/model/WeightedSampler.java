@@ -0,0 +1,90 @@
+package hProjekt.model;
+
+/**
+ * Samples indices with probabilities proportional to their weights.
+ * The weights are stored in a Fenwick tree, so both changing a single weight and
+ * sampling an index take logarithmic time.
+ */
+final class WeightedSampler {
+    private final double[] weights;
+    private final double[] tree;
+
+    /**
+     * Creates a new sampler for the given number of indices, all with a weight of
+     * {@code 0}.
+     *
+     * @param size the number of indices
+     */
+    WeightedSampler(final int size) {
+        this.weights = new double[size];
+        this.tree = new double[size + 1];
+    }
+
+    /**
+     * Sets the weight of the given index.
+     * Negative weights are treated as {@code 0}.
+     *
+     * @param index  the index
+     * @param weight the new weight of the index
+     */
+    void set(final int index, final double weight) {
+        final double delta = Math.max(0, weight) - weights[index];
+        if (delta == 0) {
+            return;
+        }
+        weights[index] += delta;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the sum of all weights.
+     *
+     * @return the sum of all weights
+     */
+    double total() {
+        double total = 0;
+        for (int i = weights.length; i > 0; i -= i & -i) {
+            total += tree[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the index whose weight interval contains the given fraction of the
+     * total weight.
+     * If the given fraction is uniformly distributed in {@code [0, 1)}, every index
+     * is returned with a probability proportional to its weight.
+     * Indices with a weight of {@code 0} are never returned.
+     *
+     * @param fraction a value in {@code [0, 1)}
+     * @return the sampled index or {@code -1} if all weights are {@code 0}
+     */
+    int sample(final double fraction) {
+        final double total = total();
+        if (total <= 0) {
+            return -1;
+        }
+        double remaining = fraction * total;
+        int index = 0;
+        for (int step = Integer.highestOneBit(weights.length); step > 0; step >>= 1) {
+            if (index + step < tree.length && tree[index + step] <= remaining) {
+                index += step;
+                remaining -= tree[index];
+            }
+        }
+        // rounding errors may end up on an index without weight
+        for (int i = index; i < weights.length; i++) {
+            if (weights[i] > 0) {
+                return i;
+            }
+        }
+        for (int i = Math.min(index, weights.length) - 1; i >= 0; i--) {
+            if (weights[i] > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,25 @@
+package hProjekt.sim;
+
+import java.util.OptionalDouble;
+
+import hProjekt.controller.AiController;
+
+/**
+ * The results of a single AI controller over all games of a tournament.
+ * Wins and credits only count completed games.
+ *
+ * @param aiController   the AI controller
+ * @param games          the number of completed games the AI controller played
+ *                       in, counting every player it played for
+ * @param failedGames    the number of games the AI controller played in that
+ *                       ended early because of an exception
+ * @param wins           the number of games the AI controller won
+ * @param winRate        the share of its completed games the AI controller won
+ *                       or empty if it did not complete any game
+ * @param averageCredits the average credits of the AI controller at the end of
+ *                       a completed game or empty if it did not complete any
+ *                       game
+ */
+public record ControllerResult(Class<? extends AiController> aiController, int games, int failedGames, int wins,
+        OptionalDouble winRate, OptionalDouble averageCredits) {
+}
@@ -0,0 +1,38 @@
+package hProjekt.sim;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import hProjekt.controller.GamePhase;
+
+/**
+ * The result of a simulated game.
+ *
+ * @param seed           the seed the game was played with
+ * @param players        the results of the players in the order they played in
+ * @param winner         the result of the winner or {@code null} if the game
+ *                       has no winner
+ * @param rounds         the number of rounds played in each phase the game
+ *                       reached
+ * @param phaseDurations the time spent in each phase the game reached
+ * @param setupDuration  the time spent generating the game
+ * @param duration       the total time spent on the game including the setup
+ * @param failure        the exception that ended the game early or {@code null}
+ *                       if the game was played to the end
+ */
+public record GameResult(long seed, List<PlayerResult> players, @Nullable PlayerResult winner,
+        Map<GamePhase, Integer> rounds, Map<GamePhase, Duration> phaseDurations, Duration setupDuration,
+        Duration duration, @Nullable RuntimeException failure) {
+
+    /**
+     * Returns whether the game was played to the end.
+     *
+     * @return whether the game was played to the end
+     */
+    public boolean isCompleted() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,138 @@
+package hProjekt.sim;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import hProjekt.Config;
+import hProjekt.controller.AiController;
+import hProjekt.controller.GameController;
+import hProjekt.controller.GamePhase;
+import hProjekt.controller.PlayerController;
+import hProjekt.model.GameState;
+import hProjekt.model.HexGrid;
+import hProjekt.model.Player;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.util.Subscription;
+
+/**
+ * A game between AI controllers that runs without a user interface.
+ * The game loop runs on the thread calling {@link #run()}. The JavaFX toolkit is
+ * never started, so games can be run on machines without a display and any
+ * number of games can run at the same time on different threads.
+ *
+ * AI controllers wait {@link Config#AI_ACTION_DELAY} milliseconds before their
+ * actions, which should be turned off to simulate games at full speed.
+ */
+public final class HeadlessGame {
+    private final long seed;
+    private final List<Class<? extends AiController>> aiControllers;
+
+    /**
+     * Creates a new game with the given seed between the given AI controllers.
+     * Every AI controller plays for its own player, in the given order.
+     *
+     * @param seed          the seed of the game
+     * @param aiControllers the AI controllers playing the game
+     * @throws IllegalArgumentException if the number of AI controllers is not
+     *                                  allowed or an AI controller cannot be
+     *                                  created by the {@link GameController}
+     */
+    public HeadlessGame(final long seed, final List<Class<? extends AiController>> aiControllers) {
+        if (aiControllers.size() < Config.MIN_PLAYERS || aiControllers.size() > Config.MAX_PLAYERS) {
+            throw new IllegalArgumentException(String.format("A game needs between %d and %d players, but got %d",
+                    Config.MIN_PLAYERS, Config.MAX_PLAYERS, aiControllers.size()));
+        }
+        for (final Class<? extends AiController> aiController : aiControllers) {
+            try {
+                aiController.getConstructor(PlayerController.class, HexGrid.class, GameState.class, Property.class,
+                        IntegerProperty.class, IntegerProperty.class, ReadOnlyProperty.class);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("The ai controller " + aiController.getName()
+                        + " does not have the constructor required by the game controller", e);
+            }
+        }
+        this.seed = seed;
+        this.aiControllers = List.copyOf(aiControllers);
+    }
+
+    /**
+     * Returns the seed of this game.
+     *
+     * @return the seed of this game
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the AI controllers playing this game.
+     *
+     * @return the AI controllers playing this game
+     */
+    public List<Class<? extends AiController>> getAiControllers() {
+        return aiControllers;
+    }
+
+    /**
+     * Generates the game and plays it to the end on the calling thread.
+     * If the game loop throws an exception, the game ends early and the exception
+     * is reported in the result. Interrupting the calling thread while a player
+     * is waiting for an action ends the game the same way.
+     *
+     * @return the result of the game
+     */
+    public GameResult run() {
+        final long start = System.nanoTime();
+        final GameController gameController = new GameController(seed);
+        final GameState state = gameController.getState();
+        for (int i = 0; i < aiControllers.size(); i++) {
+            final Class<? extends AiController> aiController = aiControllers.get(i);
+            state.newPlayer(String.format("%s %d", aiController.getSimpleName(), i + 1), null, aiController);
+        }
+
+        final long gameStart = System.nanoTime();
+        final Map<GamePhase, Integer> rounds = new EnumMap<>(GamePhase.class);
+        final Map<GamePhase, Duration> phaseDurations = new EnumMap<>(GamePhase.class);
+        final long[] phaseStart = { gameStart };
+        final Subscription phaseSubscription = state.getGamePhaseProperty().subscribe((previous, current) -> {
+            final long now = System.nanoTime();
+            rounds.put(previous, gameController.roundCounterProperty().get());
+            phaseDurations.merge(previous, Duration.ofNanos(now - phaseStart[0]), Duration::plus);
+            phaseStart[0] = now;
+        });
+
+        RuntimeException failure = null;
+        try {
+            gameController.startGame();
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            phaseSubscription.unsubscribe();
+        }
+        final long end = System.nanoTime();
+        final GamePhase lastPhase = state.getGamePhaseProperty().getValue();
+        rounds.put(lastPhase, gameController.roundCounterProperty().get());
+        phaseDurations.merge(lastPhase, Duration.ofNanos(end - phaseStart[0]), Duration::plus);
+
+        final List<PlayerResult> players = new ArrayList<>();
+        PlayerResult winner = null;
+        for (int i = 0; i < state.getPlayers().size(); i++) {
+            final Player player = state.getPlayers().get(i);
+            final PlayerResult result = new PlayerResult(player.getName(), aiControllers.get(i), player.getCredits(),
+                    player.getRails().size());
+            players.add(result);
+            if (player.equals(state.getWinnerProperty().getValue())) {
+                winner = result;
+            }
+        }
+        return new GameResult(seed, Collections.unmodifiableList(players), winner,
+                Collections.unmodifiableMap(rounds), Collections.unmodifiableMap(phaseDurations),
+                Duration.ofNanos(gameStart - start), Duration.ofNanos(end - start), failure);
+    }
+}
@@ -0,0 +1,15 @@
+package hProjekt.sim;
+
+import hProjekt.controller.AiController;
+
+/**
+ * The result of a single player at the end of a simulated game.
+ *
+ * @param name         the name of the player
+ * @param aiController the AI controller that played for the player
+ * @param credits      the credits of the player at the end of the game
+ * @param rails        the number of rails the player owns at the end of the
+ *                     game
+ */
+public record PlayerResult(String name, Class<? extends AiController> aiController, int credits, int rails) {
+}
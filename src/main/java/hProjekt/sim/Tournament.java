@@ -0,0 +1,231 @@
+package hProjekt.sim;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import hProjekt.Config;
+import hProjekt.controller.AiController;
+import hProjekt.controller.GamePhase;
+
+/**
+ * A tournament of {@link HeadlessGame}s between AI controllers.
+ * Every game runs on its own virtual thread, so a tournament keeps all cores
+ * busy.
+ * The AI controllers take turns in the seats of the games: the {@code j}-th
+ * player of the {@code i}-th game is played by the AI controller at index
+ * {@code (i + j) % n}. The seeds of the games are derived from the seed of the
+ * tournament, so a tournament with the same parameters plays the same games.
+ */
+public final class Tournament {
+    private final List<Class<? extends AiController>> aiControllers;
+    private final int playersPerGame;
+    private final int games;
+    private final long seed;
+
+    /**
+     * Creates a new tournament between all AI controllers in
+     * {@link Config#AVAILABLE_AI_CONTROLLER}.
+     * Each game has one player per AI controller, but at least
+     * {@link Config#MIN_PLAYERS} and at most {@link Config#MAX_PLAYERS} players.
+     *
+     * @param games the number of games to play
+     * @param seed  the seed of the tournament
+     */
+    public Tournament(final int games, final long seed) {
+        this(Config.AVAILABLE_AI_CONTROLLER.stream().sorted(Comparator.comparing(Class::getName)).toList(),
+                Math.clamp(Config.AVAILABLE_AI_CONTROLLER.size(), Config.MIN_PLAYERS, Config.MAX_PLAYERS), games,
+                seed);
+    }
+
+    /**
+     * Creates a new tournament between the given AI controllers.
+     *
+     * @param aiControllers  the AI controllers taking part
+     * @param playersPerGame the number of players in each game
+     * @param games          the number of games to play
+     * @param seed           the seed of the tournament
+     * @throws IllegalArgumentException if there are no AI controllers, the number
+     *                                  of players is not allowed or the number of
+     *                                  games is negative
+     */
+    public Tournament(final List<Class<? extends AiController>> aiControllers, final int playersPerGame,
+            final int games, final long seed) {
+        if (aiControllers.isEmpty()) {
+            throw new IllegalArgumentException("A tournament needs at least one ai controller");
+        }
+        if (playersPerGame < Config.MIN_PLAYERS || playersPerGame > Config.MAX_PLAYERS) {
+            throw new IllegalArgumentException(String.format("A game needs between %d and %d players, but got %d",
+                    Config.MIN_PLAYERS, Config.MAX_PLAYERS, playersPerGame));
+        }
+        if (games < 0) {
+            throw new IllegalArgumentException("The number of games must not be negative");
+        }
+        this.aiControllers = List.copyOf(aiControllers);
+        this.playersPerGame = playersPerGame;
+        this.games = games;
+        this.seed = seed;
+    }
+
+    /**
+     * Creates the games of this tournament.
+     *
+     * @return the games of this tournament in order
+     */
+    public List<HeadlessGame> createGames() {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final List<HeadlessGame> headlessGames = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            final List<Class<? extends AiController>> players = new ArrayList<>(playersPerGame);
+            for (int j = 0; j < playersPerGame; j++) {
+                players.add(aiControllers.get((i + j) % aiControllers.size()));
+            }
+            headlessGames.add(new HeadlessGame(random.nextLong(), players));
+        }
+        return headlessGames;
+    }
+
+    /**
+     * Plays all games of this tournament, each on its own virtual thread, and
+     * waits for them to finish.
+     *
+     * @return the result of the tournament
+     * @throws IllegalStateException if a game could not be generated
+     */
+    public TournamentResult run() {
+        final long start = System.nanoTime();
+        final List<GameResult> results = new ArrayList<>(games);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<GameResult>> futures = new ArrayList<>(games);
+            for (final HeadlessGame game : createGames()) {
+                futures.add(executor.submit(game::run));
+            }
+            for (final Future<GameResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    executor.shutdownNow();
+                    throw new IllegalStateException("Could not generate a game of the tournament", e.getCause());
+                } catch (InterruptedException e) {
+                    executor.shutdownNow();
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Tournament was interrupted", e);
+                }
+            }
+        }
+        return summarize(results, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Summarizes the results of the given games.
+     *
+     * @param results  the results of the games
+     * @param duration the time the tournament took
+     * @return the result of the tournament
+     */
+    TournamentResult summarize(final List<GameResult> results, final Duration duration) {
+        final Map<Class<? extends AiController>, int[]> seats = new LinkedHashMap<>();
+        final Map<Class<? extends AiController>, long[]> credits = new LinkedHashMap<>();
+        for (final Class<? extends AiController> aiController : aiControllers) {
+            seats.put(aiController, new int[3]);
+            credits.put(aiController, new long[1]);
+        }
+        final Map<GamePhase, Integer> rounds = new EnumMap<>(GamePhase.class);
+        final Map<GamePhase, Duration> phaseDurations = new EnumMap<>(GamePhase.class);
+        Duration gameDurations = Duration.ZERO;
+        int completedGames = 0;
+        for (final GameResult result : results) {
+            result.rounds().forEach((phase, phaseRounds) -> rounds.merge(phase, phaseRounds, Integer::sum));
+            result.phaseDurations().forEach((phase, phaseDuration) -> phaseDurations.merge(phase, phaseDuration,
+                    Duration::plus));
+            gameDurations = gameDurations.plus(result.duration());
+            if (!result.isCompleted()) {
+                for (final PlayerResult player : result.players()) {
+                    seats.get(player.aiController())[2]++;
+                }
+                continue;
+            }
+            completedGames++;
+            for (final PlayerResult player : result.players()) {
+                seats.get(player.aiController())[0]++;
+                if (player.equals(result.winner())) {
+                    seats.get(player.aiController())[1]++;
+                }
+                credits.get(player.aiController())[0] += player.credits();
+            }
+        }
+
+        final List<ControllerResult> controllers = new ArrayList<>();
+        seats.forEach((aiController, counts) -> controllers.add(new ControllerResult(aiController, counts[0],
+                counts[2], counts[1],
+                counts[0] == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) counts[1] / counts[0]),
+                counts[0] == 0 ? OptionalDouble.empty()
+                        : OptionalDouble.of((double) credits.get(aiController)[0] / counts[0]))));
+        final Map<GamePhase, Double> averageRounds = new EnumMap<>(GamePhase.class);
+        final Map<GamePhase, Duration> averagePhaseDurations = new EnumMap<>(GamePhase.class);
+        if (!results.isEmpty()) {
+            rounds.forEach((phase, phaseRounds) -> averageRounds.put(phase, (double) phaseRounds / results.size()));
+            phaseDurations.forEach((phase, phaseDuration) -> averagePhaseDurations.put(phase,
+                    phaseDuration.dividedBy(results.size())));
+        }
+        return new TournamentResult(List.copyOf(results), List.copyOf(controllers), completedGames,
+                averageRounds, averagePhaseDurations,
+                results.isEmpty() ? Duration.ZERO : gameDurations.dividedBy(results.size()), duration);
+    }
+
+    /**
+     * Plays a tournament between all AI controllers in
+     * {@link Config#AVAILABLE_AI_CONTROLLER} and prints its result.
+     * The AI controllers do not wait before their actions and the actions are not
+     * logged.
+     *
+     * @param args the number of games and the seed of the tournament, defaults to
+     *             {@code 100} games and a random seed
+     */
+    public static void main(final String[] args) {
+        final int games = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        final long seed = args.length > 1 ? Long.parseLong(args[1]) : Config.RANDOM.nextLong();
+        Config.AI_ACTION_DELAY = 0;
+
+        // the player controllers log every action, which would drown the results
+        final PrintStream out = System.out;
+        final TournamentResult result;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            result = new Tournament(games, seed).run();
+        } finally {
+            System.setOut(out);
+        }
+        System.out.printf("Played %d games with seed %d in %s%n", result.games().size(), seed, result.duration());
+        System.out.printf("Completed: %d, failed: %d%n", result.completedGames(), result.failedGames());
+        for (final ControllerResult controller : result.controllers()) {
+            if (controller.winRate().isEmpty()) {
+                System.out.printf("%s: no completed games, %d failed%n", controller.aiController().getSimpleName(),
+                        controller.failedGames());
+                continue;
+            }
+            System.out.printf("%s: %d completed games, %d failed, %d wins (%.1f%%), %.1f credits on average%n",
+                    controller.aiController().getSimpleName(), controller.games(), controller.failedGames(),
+                    controller.wins(), controller.winRate().getAsDouble() * 100,
+                    controller.averageCredits().getAsDouble());
+        }
+        System.out.printf("Average game: %s, rounds %s, phases %s%n", result.averageGameDuration(),
+                result.averageRounds(), result.averagePhaseDurations());
+        result.games().stream().filter(game -> !game.isCompleted()).findFirst().ifPresent(game -> {
+            System.out.println("First failure in the game with seed " + game.seed() + ":");
+            game.failure().printStackTrace(System.out);
+        });
+    }
+}
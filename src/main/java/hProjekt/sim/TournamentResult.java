@@ -0,0 +1,37 @@
+package hProjekt.sim;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import hProjekt.controller.GamePhase;
+
+/**
+ * The result of a tournament.
+ * The wins and credits of the AI controllers only take completed games into
+ * account, while the game lengths and timings are averaged over all games.
+ *
+ * @param games                 the results of all games in the order they were
+ *                              created
+ * @param controllers           the results of the AI controllers
+ * @param completedGames        the number of games that were played to the end
+ * @param averageRounds         the average number of rounds played in each
+ *                              phase
+ * @param averagePhaseDurations the average time spent in each phase
+ * @param averageGameDuration   the average time spent on a game including its
+ *                              setup
+ * @param duration              the total time the tournament took
+ */
+public record TournamentResult(List<GameResult> games, List<ControllerResult> controllers, int completedGames,
+        Map<GamePhase, Double> averageRounds, Map<GamePhase, Duration> averagePhaseDurations,
+        Duration averageGameDuration, Duration duration) {
+
+    /**
+     * Returns the number of games that ended early because of an exception.
+     *
+     * @return the number of games that ended early
+     */
+    public int failedGames() {
+        return games.size() - completedGames;
+    }
+}
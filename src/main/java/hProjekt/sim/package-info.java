@@ -0,0 +1,5 @@
+/**
+ * Package for running games without a user interface, e.g. to simulate games
+ * between AI controllers.
+ */
+package hProjekt.sim;
@@ -0,0 +1,354 @@
+package hProjekt.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import hProjekt.Config;
+
+/**
+ * A markov chain trained on a list of names, as used by {@link NameGenerator}.
+ * A model is immutable and can be shared by any number of generators on any
+ * number of threads.
+ * The models returned by {@link #of(String[], int)} are trained only once per
+ * JVM. If {@link Config#NAME_MODEL_CACHE_DIRECTORY} is set, they are also
+ * stored there, so later starts can skip the training as well.
+ */
+public final class NameModel {
+    private static final int FILE_VERSION = 2;
+    private static final Map<Key, NameModel> CACHE = new ConcurrentHashMap<>();
+
+    private final int order;
+    private final Map<String, SortedMap<Character, Integer>> ngramCollection;
+    private final String[] ngrams;
+    private final int[] startIds;
+    private final char[][] nextChars;
+    private final int[][] cumulativeWeights;
+    private final int[][] nextIds;
+
+    /**
+     * The names and order a model is trained with.
+     *
+     * @param names the names to train on
+     * @param order the order of the markov chain
+     */
+    private record Key(List<String> names, int order) {
+        /**
+         * Returns the SHA-256 digest of the names and the order as a hex string.
+         *
+         * @return the digest of this key
+         */
+        String digest() {
+            try {
+                final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(order).array());
+                for (final String name : names) {
+                    final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                    digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+                    digest.update(bytes);
+                }
+                return HexFormat.of().formatHex(digest.digest());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not supported", e);
+            }
+        }
+    }
+
+    /**
+     * Creates a new model from the given compiled n-grams.
+     *
+     * @param order             the order of the markov chain
+     * @param ngrams            the n-grams by id
+     * @param nextChars         the characters that can follow each n-gram
+     * @param cumulativeWeights the cumulative weights of the characters that can
+     *                          follow each n-gram
+     * @param nextIds           the id of the n-gram following each n-gram and
+     *                          character or {@code -1} if there is none
+     */
+    private NameModel(final int order, final String[] ngrams, final char[][] nextChars,
+            final int[][] cumulativeWeights, final int[][] nextIds) {
+        this.order = order;
+        this.ngrams = ngrams;
+        this.nextChars = nextChars;
+        this.cumulativeWeights = cumulativeWeights;
+        this.nextIds = nextIds;
+
+        final Map<String, SortedMap<Character, Integer>> ngramCollection = new HashMap<>();
+        final List<Integer> startIds = new ArrayList<>();
+        for (int id = 0; id < ngrams.length; id++) {
+            final SortedMap<Character, Integer> transitions = new TreeMap<>();
+            for (int i = 0; i < nextChars[id].length; i++) {
+                final int previousWeight = i > 0 ? cumulativeWeights[id][i - 1] : 0;
+                transitions.put(nextChars[id][i], cumulativeWeights[id][i] - previousWeight);
+            }
+            ngramCollection.put(ngrams[id], Collections.unmodifiableSortedMap(transitions));
+            if (ngrams[id].startsWith("^")) {
+                startIds.add(id);
+            }
+        }
+        this.ngramCollection = Collections.unmodifiableMap(ngramCollection);
+        this.startIds = startIds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the model trained on the given names with the specified order.
+     * The model is trained on the first request for the given names and order and
+     * shared afterwards.
+     *
+     * @param names the names to train on
+     * @param order the order of the markov chain
+     * @return the trained model
+     * @throws UncheckedIOException if the model cannot be loaded from or stored in
+     *                              {@link Config#NAME_MODEL_CACHE_DIRECTORY}
+     */
+    public static NameModel of(final String[] names, final int order) {
+        final NameModel cached = CACHE.get(new Key(Arrays.asList(names), order));
+        if (cached != null) {
+            return cached;
+        }
+        return CACHE.computeIfAbsent(new Key(List.of(names), order), key -> {
+            final Path cacheDirectory = Config.NAME_MODEL_CACHE_DIRECTORY;
+            if (cacheDirectory == null) {
+                return train(names, order);
+            }
+            final Path file = cacheDirectory.resolve("names-" + key.digest() + ".bin");
+            final NameModel stored = load(file, key);
+            if (stored != null) {
+                return stored;
+            }
+            final NameModel model = train(names, order);
+            model.save(file, key);
+            return model;
+        });
+    }
+
+    /**
+     * Trains a new model on the given names with the specified order.
+     *
+     * @param names the names to train on
+     * @param order the order of the markov chain
+     * @return the trained model
+     */
+    public static NameModel train(final String[] names, final int order) {
+        final Map<String, SortedMap<Character, Integer>> ngramCollection = new HashMap<>();
+        for (String name : names) {
+            name = "^" + name + "$";
+            for (int i = order; i < name.length(); i++) {
+                String ngram = name.substring(i - order, i);
+                char nextChar = name.charAt(i);
+
+                ngramCollection.putIfAbsent(ngram, new TreeMap<>());
+
+                ngramCollection.get(ngram).put(nextChar,
+                        ngramCollection.get(ngram).getOrDefault(nextChar, 0) + 1);
+            }
+        }
+        return compile(order, ngramCollection);
+    }
+
+    /**
+     * Compiles the given n-grams into arrays indexed by n-gram id.
+     * For every n-gram the possible next characters are stored together with
+     * their cumulative weights and the id of the n-gram that follows, so
+     * generating a name does not need to look up any strings.
+     *
+     * @param order           the order of the markov chain
+     * @param ngramCollection the characters following each n-gram and how often
+     *                        they do
+     * @return the compiled model
+     */
+    private static NameModel compile(final int order,
+            final Map<String, SortedMap<Character, Integer>> ngramCollection) {
+        final String[] ngrams = ngramCollection.keySet().toArray(String[]::new);
+        final Map<String, Integer> ids = new HashMap<>();
+        for (int id = 0; id < ngrams.length; id++) {
+            ids.put(ngrams[id], id);
+        }
+
+        final char[][] nextChars = new char[ngrams.length][];
+        final int[][] cumulativeWeights = new int[ngrams.length][];
+        final int[][] nextIds = new int[ngrams.length][];
+        for (int id = 0; id < ngrams.length; id++) {
+            final SortedMap<Character, Integer> transitions = ngramCollection.get(ngrams[id]);
+            nextChars[id] = new char[transitions.size()];
+            cumulativeWeights[id] = new int[transitions.size()];
+            nextIds[id] = new int[transitions.size()];
+            int i = 0;
+            int cumulativeWeight = 0;
+            for (final Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                cumulativeWeight += transition.getValue();
+                nextChars[id][i] = transition.getKey();
+                cumulativeWeights[id][i] = cumulativeWeight;
+                nextIds[id][i] = ids.getOrDefault(ngrams[id].substring(Math.min(1, ngrams[id].length()))
+                        + transition.getKey(), -1);
+                i++;
+            }
+        }
+        return new NameModel(order, ngrams, nextChars, cumulativeWeights, nextIds);
+    }
+
+    /**
+     * Loads the model for the given key from the given file.
+     *
+     * @param file the file to load the model from
+     * @param key  the names and order the model has to be trained with
+     * @return the loaded model or {@code null} if the file does not exist or does
+     *         not contain the model for the given key
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    private static NameModel load(final Path file, final Key key) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_VERSION || in.readInt() != key.order() || in.readInt() != key.names().size()) {
+                return null;
+            }
+            for (final String name : key.names()) {
+                if (!in.readUTF().equals(name)) {
+                    return null;
+                }
+            }
+            final String[] ngrams = new String[in.readInt()];
+            final char[][] nextChars = new char[ngrams.length][];
+            final int[][] cumulativeWeights = new int[ngrams.length][];
+            final int[][] nextIds = new int[ngrams.length][];
+            for (int id = 0; id < ngrams.length; id++) {
+                ngrams[id] = in.readUTF();
+                nextChars[id] = new char[in.readInt()];
+                cumulativeWeights[id] = new int[nextChars[id].length];
+                nextIds[id] = new int[nextChars[id].length];
+                for (int i = 0; i < nextChars[id].length; i++) {
+                    nextChars[id][i] = in.readChar();
+                    cumulativeWeights[id][i] = in.readInt();
+                    nextIds[id][i] = in.readInt();
+                }
+            }
+            return new NameModel(key.order(), ngrams, nextChars, cumulativeWeights, nextIds);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Couldn't load the name model from " + file, e);
+        }
+    }
+
+    /**
+     * Stores this model for the given key in the given file.
+     * The model is written to a temporary file first, so other processes never
+     * read a partially written model.
+     *
+     * @param file the file to store the model in
+     * @param key  the names and order the model has been trained with
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    private void save(final Path file, final Key key) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            final Path temporaryFile = Files.createTempFile(file.toAbsolutePath().getParent(), "names-", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                out.writeInt(FILE_VERSION);
+                out.writeInt(key.order());
+                out.writeInt(key.names().size());
+                for (final String name : key.names()) {
+                    out.writeUTF(name);
+                }
+                out.writeInt(ngrams.length);
+                for (int id = 0; id < ngrams.length; id++) {
+                    out.writeUTF(ngrams[id]);
+                    out.writeInt(nextChars[id].length);
+                    for (int i = 0; i < nextChars[id].length; i++) {
+                        out.writeChar(nextChars[id][i]);
+                        out.writeInt(cumulativeWeights[id][i]);
+                        out.writeInt(nextIds[id][i]);
+                    }
+                }
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Couldn't store the name model in " + file, e);
+        }
+    }
+
+    /**
+     * Returns the order of the markov chain.
+     *
+     * @return the order of the markov chain
+     */
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * Returns the characters following each n-gram and how often they do.
+     * The returned map cannot be modified.
+     *
+     * @return the characters following each n-gram and how often they do
+     */
+    public Map<String, SortedMap<Character, Integer>> getNgramCollection() {
+        return ngramCollection;
+    }
+
+    /**
+     * Generates a new name with at most the given length.
+     *
+     * @param random the random instance to use
+     * @param length the maximum length of the name
+     * @return the generated name
+     */
+    String generateName(final Random random, final int length) {
+        int ngram = startIds[random.nextInt(startIds.length)];
+        final StringBuilder result = new StringBuilder(ngrams[ngram].length() + length);
+        result.append(ngrams[ngram]);
+
+        for (int i = 0; i < length; i++) {
+            if (ngram < 0) {
+                break;
+            }
+
+            int choice = weightedRandomChoice(random, cumulativeWeights[ngram]);
+            char nextChar = nextChars[ngram][choice];
+
+            if (nextChar == '$') {
+                break;
+            }
+
+            result.append(nextChar);
+            ngram = nextIds[ngram][choice];
+        }
+        return result.substring(1, 2).toUpperCase() + result.substring(2);
+    }
+
+    /**
+     * Returns the index of a weighted random choice based on the given cumulative
+     * weights.
+     *
+     * @param random            the random instance to use
+     * @param cumulativeWeights the cumulative weights of the choices
+     * @return the index of the chosen entry
+     */
+    private static int weightedRandomChoice(final Random random, final int[] cumulativeWeights) {
+        int randomIndex = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, randomIndex);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+}
@@ -0,0 +1,83 @@
+package hProjekt.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+import hProjekt.model.Player;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that games created from the same seed replay identically: the same
+ * dice are rolled, the same cities are chosen and the AI controllers make the
+ * same moves.
+ */
+public class GameReplayTest {
+
+    /**
+     * Plays a game between two {@link BasicAiController}s with the given seed and
+     * records everything that happens in it.
+     * The dice rolls and the actions of the AI controllers, as logged by their
+     * {@link PlayerController}s, are recorded in the order they happen. They are
+     * followed by the state of the players, further cities chosen and dice cast
+     * after the game has ended.
+     *
+     * @param seed the seed of the game
+     * @return the events of the game
+     */
+    private static List<String> play(final long seed) {
+        final GameController gameController = new GameController(seed);
+        for (int i = 1; i <= 2; i++) {
+            gameController.getState().newPlayer("Player " + i, null, BasicAiController.class);
+        }
+        final List<String> events = new ArrayList<>();
+        gameController.currentDiceRollProperty().addListener((observable, oldRoll, newRoll) -> events.add(
+                "dice " + newRoll));
+
+        final long delay = Config.AI_ACTION_DELAY;
+        final PrintStream out = System.out;
+        final ByteArrayOutputStream log = new ByteArrayOutputStream();
+        Config.AI_ACTION_DELAY = 0;
+        System.setOut(new PrintStream(log, true, StandardCharsets.UTF_8));
+        try {
+            gameController.startGame();
+        } catch (RuntimeException e) {
+            events.add("failure " + e.getClass().getName());
+        } finally {
+            Config.AI_ACTION_DELAY = delay;
+            System.setOut(out);
+        }
+        log.toString(StandardCharsets.UTF_8).lines().filter(line -> line.startsWith("TRIGGER "))
+                .forEach(events::add);
+
+        for (final Player player : gameController.getState().getPlayers()) {
+            events.add(player.getName() + " " + player.getColor() + " " + player.getCredits() + " "
+                    + player.getRails().keySet().stream().map(Object::toString).sorted().toList());
+        }
+        for (int i = 0; i < 3; i++) {
+            gameController.chooseCities();
+            events.add("cities " + gameController.getStartingCity() + " " + gameController.getTargetCity());
+            events.add("dice " + gameController.castDice());
+        }
+        return events;
+    }
+
+    @Test
+    public void testSameSeed() {
+        final List<String> events = play(3);
+        assertTrue(events.stream().anyMatch(event -> event.startsWith("TRIGGER BuildRailAction")));
+        assertTrue(events.stream().filter(event -> event.startsWith("cities ")).distinct().count() > 1);
+        assertEquals(events, play(3));
+    }
+
+    @Test
+    public void testDifferentSeeds() {
+        assertNotEquals(play(4), play(5));
+    }
+}
@@ -0,0 +1,223 @@
+package hProjekt.controller;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+import hProjekt.model.Edge;
+import hProjekt.model.GameRandom;
+import hProjekt.model.GameState;
+import hProjekt.model.HexGridImpl;
+import hProjekt.model.Player;
+import hProjekt.model.Tile;
+import hProjekt.model.TilePosition;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the drivable tiles and chooseable edges memoized by a
+ * {@link PlayerController} always match those computed by a fresh controller,
+ * and that the buildable rails match a scan over all edges of the grid.
+ */
+public class PlayerControllerTest {
+    private static final long SEED = 7;
+
+    private final GameState state = new GameState(new HexGridImpl(3, 6, Config.TOWN_NAMES, SEED),
+            new ArrayList<>(), new GameRandom(SEED));
+    private int diceRoll = 2;
+    private final GameController gameController = new GameController(state, () -> diceRoll);
+    private final Player player = state.newPlayer(null, null, null);
+    private final PlayerController playerController = new PlayerController(gameController, player);
+    private final List<Edge> edges = new ArrayList<>(state.getGrid().getEdges().values());
+
+    /**
+     * Creates a game in the driving phase in which the player has built a small
+     * rail network and stands on its first tile.
+     */
+    public PlayerControllerTest() {
+        edges.sort(Comparator.comparing(Edge::getPosition1).thenComparing(Edge::getPosition2));
+        buildRails(10, new Random(SEED));
+        state.getGamePhaseProperty().setValue(GamePhase.DRIVING_PHASE);
+        gameController.chooseCities();
+        gameController.castDice();
+        state.setPlayerPositon(player, player.getRails().values().stream().map(Edge::getPosition1)
+                .sorted().findFirst().orElseThrow());
+        state.addDrivingPlayer(player);
+    }
+
+    /**
+     * Lets the player build up to the given number of rails on random edges.
+     *
+     * @param amount the number of rails to build
+     * @param random the random to choose the edges with
+     */
+    private void buildRails(final int amount, final Random random) {
+        buildRails(player, amount, random);
+    }
+
+    /**
+     * Lets the given player build up to the given number of rails on random
+     * edges.
+     *
+     * @param owner  the player to build the rails for
+     * @param amount the number of rails to build
+     * @param random the random to choose the edges with
+     */
+    private void buildRails(final Player owner, final int amount, final Random random) {
+        for (int i = 0; i < amount; i++) {
+            final List<Edge> shuffled = new ArrayList<>(edges);
+            Collections.shuffle(shuffled, random);
+            for (final Edge edge : shuffled) {
+                if (edge.addRail(owner)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the buildable rails of the given controller by scanning all edges
+     * of the grid for every rail of the player.
+     *
+     * @param controller the controller of the player
+     * @return the buildable rails of the player
+     */
+    private Set<Edge> scanBuildableRails(final PlayerController controller) {
+        final Map<Set<TilePosition>, Edge> rails = controller.getPlayer().getRails();
+        final Set<Edge> buildableRails = new HashSet<>();
+        for (final Edge edge : edges) {
+            if (rails.isEmpty()) {
+                if ((state.getGrid().getStartingCities().containsKey(edge.getPosition1())
+                        || state.getGrid().getStartingCities().containsKey(edge.getPosition2()))
+                        && controller.canBuildRail(edge)) {
+                    buildableRails.add(edge);
+                }
+                continue;
+            }
+            for (final Edge rail : rails.values()) {
+                if (edge.connectsTo(rail) && controller.canBuildRail(edge)) {
+                    buildableRails.add(edge);
+                }
+            }
+        }
+        return buildableRails;
+    }
+
+    /**
+     * Asserts that the drivable tiles of the controller match those computed by
+     * a new controller without any memoized state.
+     */
+    private void assertFresh() {
+        final Map<Tile, List<Tile>> expected = new PlayerController(gameController, player).getDrivableTiles();
+        assertEquals(expected, playerController.getDrivableTiles());
+    }
+
+    @Test
+    public void testMemoized() {
+        final Map<Tile, List<Tile>> drivableTiles = playerController.getDrivableTiles();
+        assertFalse(drivableTiles.isEmpty());
+        assertSame(drivableTiles, playerController.getDrivableTiles());
+        assertThrows(UnsupportedOperationException.class, drivableTiles::clear);
+    }
+
+    @Test
+    public void testDiceRollChanges() {
+        assertFresh();
+        for (diceRoll = 1; diceRoll <= Config.DICE_SIDES; diceRoll++) {
+            gameController.castDice();
+            assertFresh();
+        }
+    }
+
+    @Test
+    public void testPositionChanges() {
+        assertFresh();
+        for (final Tile tile : new ArrayList<>(playerController.getDrivableTiles().keySet())) {
+            state.setPlayerPositon(player, tile.getPosition());
+            assertFresh();
+        }
+    }
+
+    @Test
+    public void testRailsChange() {
+        assertFresh();
+        buildRails(5, new Random(SEED + 1));
+        assertFresh();
+        player.getRails().values().iterator().next().removeRail(player);
+        assertFresh();
+    }
+
+    @Test
+    public void testChooseableEdgesAfterOtherPlayersBuild() {
+        final Player other = state.newPlayer(null, null, null);
+        final Set<Edge> chooseableEdges = playerController.getChooseableEdges();
+        assertEquals(new PlayerController(gameController, player).getChooseableEdges(), chooseableEdges);
+
+        final List<Edge> nextToNetwork = new ArrayList<>();
+        for (final Edge edge : edges) {
+            if (!edge.hasRail() && edge.getConnectedEdges().stream().anyMatch(rail -> rail.getRailOwners()
+                    .contains(player))) {
+                nextToNetwork.add(edge);
+            }
+        }
+        assertFalse(nextToNetwork.isEmpty());
+        for (final Edge edge : nextToNetwork) {
+            edge.getRailOwnersProperty().setValue(new ArrayList<>(List.of(other)));
+            final Set<Edge> expected = new PlayerController(gameController, player).getChooseableEdges();
+            assertTrue(expected.contains(edge));
+            assertEquals(expected, playerController.getChooseableEdges());
+        }
+        for (final Edge edge : nextToNetwork) {
+            edge.getRailOwnersProperty().setValue(new ArrayList<>());
+            final Set<Edge> expected = new PlayerController(gameController, player).getChooseableEdges();
+            assertFalse(expected.contains(edge));
+            assertEquals(expected, playerController.getChooseableEdges());
+        }
+        assertEquals(chooseableEdges, playerController.getChooseableEdges());
+    }
+
+    @Test
+    public void testBuildableRails() {
+        state.getGamePhaseProperty().setValue(GamePhase.BUILDING_PHASE);
+        final Player builder = state.newPlayer(null, null, null);
+        final PlayerController controller = new PlayerController(gameController, builder);
+        final Random random = new Random(SEED);
+        assertFalse(controller.getBuildableRails().isEmpty());
+        for (int i = 0; i < 60; i++) {
+            assertEquals(scanBuildableRails(controller), controller.getBuildableRails());
+            final List<Edge> rails = new ArrayList<>(builder.getRails().values());
+            rails.sort(Comparator.comparing(Edge::getPosition1).thenComparing(Edge::getPosition2));
+            final int action = random.nextInt(6);
+            if (action == 0 && !rails.isEmpty()) {
+                rails.get(random.nextInt(rails.size())).removeRail(builder);
+            } else if (action == 1) {
+                buildRails(1, random);
+            } else if (action == 2 && !player.getRails().isEmpty()) {
+                player.getRails().values().iterator().next().removeRail(player);
+            } else {
+                final List<Edge> buildable = new ArrayList<>(scanBuildableRails(controller));
+                buildable.sort(Comparator.comparing(Edge::getPosition1).thenComparing(Edge::getPosition2));
+                if (!buildable.isEmpty()) {
+                    buildable.get(random.nextInt(buildable.size())).addRail(builder);
+                }
+            }
+        }
+        assertEquals(scanBuildableRails(controller), controller.getBuildableRails());
+        assertFalse(builder.getRails().isEmpty());
+    }
+
+    @Test
+    public void testNotDriving() {
+        assertFalse(playerController.getDrivableTiles().isEmpty());
+        state.getGamePhaseProperty().setValue(GamePhase.BUILDING_PHASE);
+        assertEquals(Map.of(), playerController.getDrivableTiles());
+    }
+}
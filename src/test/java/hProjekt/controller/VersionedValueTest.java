@@ -0,0 +1,55 @@
+package hProjekt.controller;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a {@link VersionedValue} is only recomputed when its version
+ * changes.
+ */
+public class VersionedValueTest {
+    private final AtomicInteger computations = new AtomicInteger();
+    private final VersionedValue<Integer> value = new VersionedValue<>(computations::incrementAndGet);
+
+    /**
+     * A version made of several parts, compared by value.
+     *
+     * @param rails    the rail version
+     * @param diceRoll the dice roll
+     */
+    private record Version(long rails, int diceRoll) {
+    }
+
+    @Test
+    public void testComputedOnFirstAccess() {
+        assertEquals(0, computations.get());
+        assertEquals(1, value.get(new Version(0, 1)));
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    public void testMemoizedForEqualVersions() {
+        assertEquals(1, value.get(new Version(0, 1)));
+        assertEquals(1, value.get(new Version(0, 1)));
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    public void testRecomputedWhenVersionChanges() {
+        assertEquals(1, value.get(new Version(0, 1)));
+        assertEquals(2, value.get(new Version(1, 1)));
+        assertEquals(3, value.get(new Version(1, 2)));
+        assertEquals(4, value.get(new Version(0, 1)));
+        assertEquals(4, computations.get());
+    }
+
+    @Test
+    public void testNullVersion() {
+        assertEquals(1, value.get(null));
+        assertEquals(1, value.get(null));
+        assertEquals(2, value.get(new Version(0, 1)));
+    }
+}
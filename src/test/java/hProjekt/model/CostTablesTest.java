@@ -0,0 +1,155 @@
+package hProjekt.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+import javafx.util.Pair;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the {@link CostTables} and the {@link EdgeCosts} of a grid against the
+ * cost maps in {@link Config}, also after the maps have been replaced.
+ */
+public class CostTablesTest {
+
+    /**
+     * Returns the key of the building cost between tiles of the given types.
+     *
+     * @param type1 the type of the first tile
+     * @param type2 the type of the second tile
+     * @return the key of the building cost in {@link Config#TILE_TYPE_TO_BUILDING_COST}
+     */
+    private static Set<Tile.Type> buildingCostKey(final Tile.Type type1, final Tile.Type type2) {
+        return type1 == type2 ? Set.of(type1) : Set.of(type1, type2);
+    }
+
+    /**
+     * Asserts that the given tables contain the costs of the current maps in
+     * {@link Config} for every pair of tile types, and {@code -1} for every pair
+     * without a configured cost.
+     *
+     * @param tables the tables to check
+     */
+    private static void assertTables(final CostTables tables) {
+        for (final Tile.Type from : Tile.Type.values()) {
+            for (final Tile.Type to : Tile.Type.values()) {
+                final Integer buildingCost = Config.TILE_TYPE_TO_BUILDING_COST.get(buildingCostKey(from, to));
+                final Integer drivingCost = Config.TILE_TYPE_TO_DRIVING_COST.get(new Pair<>(from, to));
+                assertEquals(buildingCost == null ? -1 : buildingCost, tables.findBuildingCost(from, to));
+                assertEquals(drivingCost == null ? -1 : drivingCost, tables.findDrivingCost(from, to));
+                if (buildingCost == null) {
+                    assertThrows(IllegalStateException.class, () -> tables.getBuildingCost(from, to));
+                } else {
+                    assertEquals(buildingCost, tables.getBuildingCost(from, to));
+                }
+                if (drivingCost == null) {
+                    assertThrows(IllegalStateException.class, () -> tables.getDrivingCost(from, to));
+                } else {
+                    assertEquals(drivingCost, tables.getDrivingCost(from, to));
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts that the costs of every edge of the given grid match the current
+     * maps in {@link Config}.
+     *
+     * @param grid the grid to check
+     */
+    private static void assertEdgeCosts(final HexGrid grid) {
+        for (final Edge edge : grid.getEdges().values()) {
+            final Tile.Type type1 = grid.getTileAt(edge.getPosition1()).getType();
+            final Tile.Type type2 = grid.getTileAt(edge.getPosition2()).getType();
+            assertEquals(Config.TILE_TYPE_TO_BUILDING_COST.get(buildingCostKey(type1, type2)),
+                    edge.getBaseBuildingCost());
+            assertEquals(Config.TILE_TYPE_TO_DRIVING_COST.get(new Pair<>(type1, type2)),
+                    edge.getDrivingCost(edge.getPosition1()));
+            assertEquals(Config.TILE_TYPE_TO_DRIVING_COST.get(new Pair<>(type2, type1)),
+                    edge.getDrivingCost(edge.getPosition2()));
+        }
+    }
+
+    /**
+     * Replaces the cost maps in {@link Config} by copies with the given costs
+     * added, in the same way the settings menu does.
+     *
+     * @param buildingCosts the building costs to add
+     * @param drivingCosts  the driving costs to add
+     */
+    private static void replaceCosts(final Map<Set<Tile.Type>, Integer> buildingCosts,
+            final Map<Pair<Tile.Type, Tile.Type>, Integer> drivingCosts) {
+        final Map<Set<Tile.Type>, Integer> buildingCostMap = new HashMap<>(Config.TILE_TYPE_TO_BUILDING_COST);
+        buildingCostMap.putAll(buildingCosts);
+        Config.TILE_TYPE_TO_BUILDING_COST = Collections.unmodifiableMap(buildingCostMap);
+        final Map<Pair<Tile.Type, Tile.Type>, Integer> drivingCostMap = new HashMap<>(
+                Config.TILE_TYPE_TO_DRIVING_COST);
+        drivingCostMap.putAll(drivingCosts);
+        Config.TILE_TYPE_TO_DRIVING_COST = Collections.unmodifiableMap(drivingCostMap);
+    }
+
+    @Test
+    public void testDefaultCosts() {
+        assertTables(CostTables.current());
+        assertEquals(1, CostTables.current().getMinimumDrivingCost());
+        assertEdgeCosts(TestGrids.grid(0));
+    }
+
+    @Test
+    public void testMissingCosts() {
+        final Map<Set<Tile.Type>, Integer> previousBuildingCosts = Config.TILE_TYPE_TO_BUILDING_COST;
+        final Map<Pair<Tile.Type, Tile.Type>, Integer> previousDrivingCosts = Config.TILE_TYPE_TO_DRIVING_COST;
+        try {
+            Config.TILE_TYPE_TO_BUILDING_COST = Map.of(Set.of(Tile.Type.PLAIN, Tile.Type.MOUNTAIN), 4);
+            Config.TILE_TYPE_TO_DRIVING_COST = Map.of(new Pair<>(Tile.Type.MOUNTAIN, Tile.Type.PLAIN), 3);
+            final CostTables tables = CostTables.current();
+            assertTables(tables);
+            assertEquals(-1, tables.findBuildingCost(Tile.Type.PLAIN, Tile.Type.PLAIN));
+            assertEquals(4, tables.findBuildingCost(Tile.Type.MOUNTAIN, Tile.Type.PLAIN));
+            assertEquals(-1, tables.findDrivingCost(Tile.Type.PLAIN, Tile.Type.MOUNTAIN));
+            assertEquals(3, tables.getMinimumDrivingCost());
+
+            Config.TILE_TYPE_TO_DRIVING_COST = Map.of();
+            assertEquals(0, CostTables.current().getMinimumDrivingCost());
+        } finally {
+            Config.TILE_TYPE_TO_BUILDING_COST = previousBuildingCosts;
+            Config.TILE_TYPE_TO_DRIVING_COST = previousDrivingCosts;
+        }
+        assertTables(CostTables.current());
+    }
+
+    @Test
+    public void testCostsReplaced() {
+        final HexGrid grid = TestGrids.grid(1);
+        final Map<Set<Tile.Type>, Integer> previousBuildingCosts = Config.TILE_TYPE_TO_BUILDING_COST;
+        final Map<Pair<Tile.Type, Tile.Type>, Integer> previousDrivingCosts = Config.TILE_TYPE_TO_DRIVING_COST;
+        try {
+            assertEdgeCosts(grid);
+            final CostTables previousTables = CostTables.current();
+            replaceCosts(Map.of(Set.of(Tile.Type.PLAIN), 7, Set.of(Tile.Type.MOUNTAIN), 11),
+                    Map.of(new Pair<>(Tile.Type.PLAIN, Tile.Type.MOUNTAIN), 6,
+                            new Pair<>(Tile.Type.MOUNTAIN, Tile.Type.MOUNTAIN), 2));
+            final CostTables tables = CostTables.current();
+            assertNotSame(previousTables, tables);
+            assertSame(tables, CostTables.current());
+            assertTables(tables);
+            assertEquals(7, tables.getBuildingCost(Tile.Type.PLAIN, Tile.Type.PLAIN));
+            assertEdgeCosts(grid);
+
+            replaceCosts(Map.of(Set.of(Tile.Type.PLAIN, Tile.Type.MOUNTAIN), 9), Map.of());
+            assertTables(CostTables.current());
+            assertEdgeCosts(grid);
+        } finally {
+            Config.TILE_TYPE_TO_BUILDING_COST = previousBuildingCosts;
+            Config.TILE_TYPE_TO_DRIVING_COST = previousDrivingCosts;
+        }
+        assertTables(CostTables.current());
+        assertEdgeCosts(grid);
+    }
+}
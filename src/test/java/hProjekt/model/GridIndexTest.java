@@ -0,0 +1,116 @@
+package hProjekt.model;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.model.TilePosition.EdgeDirection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the lookups of {@link GridIndex} against the tile and edge maps of the
+ * grid it was built from.
+ */
+public class GridIndexTest {
+    private final HexGridImpl grid = TestGrids.grid(1);
+    private final GridIndex index = new GridIndex(grid.getTiles(), grid.getEdges());
+
+    @Test
+    public void testTileLookup() {
+        for (final Tile tile : grid.getTiles().values()) {
+            final TilePosition position = tile.getPosition();
+            assertSame(tile, index.getTile(position.q(), position.r()));
+            assertSame(tile, index.getTile(index.tileIndex(position)));
+            for (final TilePosition neighbour : TilePosition.neighbours(position)) {
+                if (!grid.getTiles().containsKey(neighbour)) {
+                    assertNull(index.getTile(neighbour.q(), neighbour.r()));
+                }
+            }
+        }
+        assertEquals(-1, index.tileIndex(Integer.MAX_VALUE, 0));
+        assertNull(index.getTile(Integer.MIN_VALUE, Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void testNeighboursEdgesAndCoast() {
+        for (final Tile tile : grid.getTiles().values()) {
+            final TilePosition position = tile.getPosition();
+            final int tileIndex = index.tileIndex(position);
+            final Set<Tile> neighbours = new HashSet<>();
+            final Set<Edge> edges = new HashSet<>();
+            for (final EdgeDirection direction : EdgeDirection.VALUES) {
+                final TilePosition neighbourPosition = TilePosition.neighbour(position, direction);
+                final Tile neighbour = grid.getTiles().get(neighbourPosition);
+                final Edge edge = grid.getEdges().get(Set.of(position, neighbourPosition));
+                assertSame(neighbour, index.getNeighbour(tileIndex, direction.ordinal()));
+                assertSame(edge, index.getEdge(position.q(), position.r(), direction.ordinal()));
+                assertSame(edge, index.getEdge(position.q(), position.r(), neighbourPosition.q(),
+                        neighbourPosition.r()));
+                if (neighbour != null) {
+                    neighbours.add(neighbour);
+                }
+                if (edge != null) {
+                    edges.add(edge);
+                }
+            }
+            assertEquals(neighbours, index.getNeighbours(tileIndex));
+            assertEquals(edges, index.getEdges(tileIndex));
+            assertEquals(neighbours.size() < EdgeDirection.SIZE, index.isAtCoast(tileIndex));
+        }
+    }
+
+    @Test
+    public void testEdgeIds() {
+        assertTrue(index.hasAllEdges());
+        assertEquals(grid.getEdges().size(), index.edgeCount());
+        final Set<Integer> ids = new HashSet<>();
+        for (final Edge edge : grid.getEdges().values()) {
+            final int id = index.edgeId(edge);
+            assertTrue(ids.add(id), "Duplicate id " + id);
+            assertSame(edge, index.getEdge(id));
+        }
+    }
+
+    @Test
+    public void testConnectedEdges() {
+        for (final Edge edge : grid.getEdges().values()) {
+            final int id = index.edgeId(edge);
+            final Set<Edge> expected = new HashSet<>();
+            for (final Edge other : grid.getEdges().values()) {
+                if (edge.connectsTo(other)) {
+                    expected.add(other);
+                }
+            }
+            assertTrue(expected.contains(edge));
+            assertEquals(expected, index.getConnectedEdges(id));
+            assertEquals(expected, edge.getConnectedEdges());
+
+            final Set<Edge> lineGraph = new HashSet<>();
+            for (int i = index.connectedEdgesStart(id); i < index.connectedEdgesStart(id + 1); i++) {
+                assertTrue(lineGraph.add(index.getEdge(index.connectedEdgeId(i))), "Duplicate connected edge");
+            }
+            assertEquals(expected, lineGraph);
+        }
+    }
+
+    @Test
+    public void testNonAdjacentPositions() {
+        final TilePosition position = grid.getTiles().keySet().iterator().next();
+        assertNull(index.getEdge(position.q(), position.r(), position.q(), position.r()));
+        assertNull(index.getEdge(position.q(), position.r(), position.q() + 2, position.r()));
+        assertEquals(-1, GridIndex.directionIndex(0, 0));
+        assertEquals(-1, GridIndex.directionIndex(1, 1));
+    }
+
+    @Test
+    public void testStaleIndex() {
+        assertTrue(index.isFor(grid.getTiles(), grid.getEdges()));
+        final Map<TilePosition, Tile> tiles = new HashMap<>(grid.getTiles());
+        tiles.remove(tiles.keySet().iterator().next());
+        assertFalse(index.isFor(tiles, grid.getEdges()));
+    }
+}
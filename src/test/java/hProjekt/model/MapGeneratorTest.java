@@ -0,0 +1,82 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that maps generated from a seed do not depend on the number of threads
+ * generating them.
+ */
+public class MapGeneratorTest {
+
+    /**
+     * Runs the given generation on a pool with the given parallelism.
+     *
+     * @param parallelism the number of threads of the pool
+     * @param seed        the seed to generate the terrain from
+     * @return the generated terrain in iteration order
+     */
+    private static List<Map.Entry<TilePosition, Tile.Type>> terrain(final int parallelism, final long seed) {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return new ArrayList<>(new MapGenerator(5, seed, pool).generateTerrain().entrySet());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Generates a grid on a pool with the given parallelism and describes its
+     * tiles and cities.
+     *
+     * @param parallelism the number of threads of the pool
+     * @param seed        the seed to generate the grid from
+     * @return the description of the grid
+     */
+    private static String describeGrid(final int parallelism, final long seed) {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            final HexGridImpl grid = new HexGridImpl(Config.MAP_SCALE, Config.NUMBER_OF_CITIES, Config.TOWN_NAMES,
+                    seed, pool);
+            final StringBuilder description = new StringBuilder();
+            grid.getTiles().values().stream().sorted(Comparator.comparing(Tile::getPosition))
+                    .forEach(tile -> description.append(tile.getPosition()).append(tile.getType()));
+            grid.getCities().values().stream().sorted(Comparator.comparing(City::getPosition))
+                    .forEach(city -> description.append(city.getPosition()).append(city.getName())
+                            .append(city.isStartingCity()));
+            return description.toString();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testTerrainIndependentOfParallelism() {
+        for (long seed = 0; seed < 3; seed++) {
+            final List<Map.Entry<TilePosition, Tile.Type>> expected = terrain(1, seed);
+            assertEquals(expected, terrain(4, seed));
+            assertEquals(expected, terrain(1, seed));
+        }
+    }
+
+    @Test
+    public void testSeedsDiffer() {
+        assertNotEquals(terrain(2, 0), terrain(2, 1));
+    }
+
+    @Test
+    public void testGridIndependentOfParallelism() {
+        final String expected = describeGrid(1, 42);
+        assertEquals(expected, describeGrid(4, 42));
+        assertNotEquals(expected, describeGrid(4, 43));
+    }
+}
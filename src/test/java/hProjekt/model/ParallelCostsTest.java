@@ -0,0 +1,100 @@
+package hProjekt.model;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the parallel costs cached by {@link ParallelCosts} stay correct
+ * while rails are built and removed.
+ */
+public class ParallelCostsTest {
+    private final HexGridImpl grid = TestGrids.grid(4);
+    private final List<Player> players = List.of(TestGrids.player(grid, 1), TestGrids.player(grid, 2),
+            TestGrids.player(grid, 3));
+
+    /**
+     * Computes the parallel costs of the given edge from the rules of the game,
+     * without any cache.
+     *
+     * @param edge   the edge to build on
+     * @param player the player that wants to build
+     * @return the credits that need to be paid to each player
+     */
+    private Map<Player, Integer> expectedCosts(final Edge edge, final Player player) {
+        final Map<Player, Integer> costs = new HashMap<>();
+        final List<Player> owners = edge.getRailOwners();
+        if (!owners.isEmpty() && !(owners.size() == 1 && owners.contains(player))) {
+            final boolean atCity = grid.getCityAt(edge.getPosition1()) != null
+                    || grid.getCityAt(edge.getPosition2()) != null;
+            owners.forEach(owner -> costs.put(owner, atCity ? 3 : 5));
+        }
+        for (final TilePosition position : edge.getAdjacentTilePositions()) {
+            if (grid.getCityAt(position) != null) {
+                continue;
+            }
+            final Set<Player> endpointOwners = new HashSet<>();
+            for (final Edge other : grid.getTileAt(position).getEdges()) {
+                if (!other.equals(edge)) {
+                    endpointOwners.addAll(other.getRailOwners());
+                }
+            }
+            if (!endpointOwners.contains(player)) {
+                endpointOwners.forEach(owner -> costs.merge(owner, 1, Math::max));
+            }
+        }
+        return costs;
+    }
+
+    /**
+     * Asserts that the costs of every edge for every player match the rules.
+     */
+    private void assertCosts() {
+        for (final Edge edge : grid.getEdges().values()) {
+            for (final Player player : players) {
+                final Map<Player, Integer> expected = expectedCosts(edge, player);
+                assertEquals(expected, edge.getParallelCostPerPlayer(player), edge + " for " + player.getID());
+                assertEquals(expected.values().stream().mapToInt(Integer::intValue).sum(),
+                        edge.getTotalParallelCost(player));
+            }
+        }
+    }
+
+    @Test
+    public void testBuildRails() {
+        assertCosts();
+        final Random random = new Random(0);
+        for (int i = 0; i < 8; i++) {
+            for (final Player player : players) {
+                TestGrids.buildRails(grid, player, 2, random);
+            }
+            assertCosts();
+        }
+    }
+
+    @Test
+    public void testRemoveRails() {
+        final Random random = new Random(1);
+        final List<Edge> built = TestGrids.buildRails(grid, players.get(0), 12, random);
+        TestGrids.buildRails(grid, players.get(1), 12, random);
+        assertCosts();
+        for (int i = 0; i < built.size(); i += 2) {
+            assertTrue(built.get(i).removeRail(players.get(0)));
+            assertCosts();
+        }
+    }
+
+    @Test
+    public void testCostsArePerPlayer() {
+        final Edge rail = TestGrids.buildRails(grid, players.get(0), 1, new Random(2)).get(0);
+        assertEquals(Map.of(), rail.getParallelCostPerPlayer(players.get(0)));
+        assertTrue(rail.getParallelCostPerPlayer(players.get(1)).get(players.get(0)) >= 3);
+    }
+}
@@ -0,0 +1,139 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the paths found by the A* search of {@link PathSearch} against the
+ * Dijkstra search of {@link HexGridImpl#findPath(TilePosition, TilePosition, Set, BiFunction)}.
+ * With distinct random edge weights the shortest path is unique, so both
+ * searches must return the same edges. With the driving costs of the grid only
+ * the path costs must match.
+ */
+public class PathSearchTest {
+    private final HexGridImpl grid = TestGrids.grid(5);
+    private final BiFunction<TilePosition, TilePosition, Integer> drivingCost = (from, to) -> grid
+            .getEdge(from, to).getDrivingCost(from);
+    private final int minimumDrivingCost = CostTables.current().getMinimumDrivingCost();
+
+    /**
+     * Returns the cost of the given path starting at the given position and
+     * asserts that the path is contiguous and only uses the given edges.
+     *
+     * @param start          the start of the path
+     * @param target         the end of the path
+     * @param path           the edges of the path
+     * @param availableEdges the edges the path may use
+     * @return the cost of the path
+     */
+    private int cost(final TilePosition start, final TilePosition target, final List<Edge> path,
+            final Set<Edge> availableEdges) {
+        TilePosition current = start;
+        int cost = 0;
+        for (final Edge edge : path) {
+            assertTrue(availableEdges.contains(edge));
+            final TilePosition next = edge.getPosition1().equals(current) ? edge.getPosition2()
+                    : edge.getPosition1();
+            assertTrue(edge.getAdjacentTilePositions().contains(current), "Path is not contiguous");
+            cost += drivingCost.apply(current, next);
+            current = next;
+        }
+        assertEquals(target, current);
+        return cost;
+    }
+
+    /**
+     * Returns random available edges of the grid.
+     *
+     * @param random the random to choose the edges with
+     * @return the chosen edges
+     */
+    private Set<Edge> randomEdges(final Random random) {
+        final Set<Edge> availableEdges = new HashSet<>();
+        for (final Edge edge : TestGrids.sortedEdges(grid)) {
+            if (random.nextInt(4) > 0) {
+                availableEdges.add(edge);
+            }
+        }
+        return availableEdges;
+    }
+
+    @Test
+    public void testShortestPaths() {
+        final Random random = new Random(0);
+        final List<TilePosition> positions = new ArrayList<>(grid.getTiles().keySet());
+        positions.sort(null);
+        final int minimumWeight = 1 << 20;
+        final Map<Edge, Integer> weights = new HashMap<>();
+        for (final Edge edge : TestGrids.sortedEdges(grid)) {
+            weights.put(edge, minimumWeight + random.nextInt(minimumWeight));
+        }
+        final BiFunction<TilePosition, TilePosition, Integer> weight = (from, to) -> weights
+                .get(grid.getEdge(from, to));
+        for (int i = 0; i < 50; i++) {
+            final Set<Edge> availableEdges = randomEdges(random);
+            final TilePosition start = positions.get(random.nextInt(positions.size()));
+            final TilePosition target = positions.get(random.nextInt(positions.size()));
+
+            assertEquals(grid.findPath(start, target, availableEdges, weight),
+                    grid.findPath(start, target, availableEdges, weight, minimumWeight), start + " -> " + target);
+        }
+    }
+
+    @Test
+    public void testShortestPathCosts() {
+        final Random random = new Random(1);
+        final List<TilePosition> positions = new ArrayList<>(grid.getTiles().keySet());
+        positions.sort(null);
+        for (int i = 0; i < 50; i++) {
+            final Set<Edge> availableEdges = randomEdges(random);
+            final TilePosition start = positions.get(random.nextInt(positions.size()));
+            final TilePosition target = positions.get(random.nextInt(positions.size()));
+
+            final List<Edge> expected = grid.findPath(start, target, availableEdges, drivingCost);
+            final List<Edge> actual = grid.findPath(start, target, availableEdges, drivingCost, minimumDrivingCost);
+            if (expected.isEmpty()) {
+                assertEquals(List.of(), actual, start + " -> " + target);
+            } else {
+                assertEquals(cost(start, target, expected, availableEdges),
+                        cost(start, target, actual, availableEdges), start + " -> " + target);
+            }
+        }
+    }
+
+    @Test
+    public void testDeterministic() {
+        final Set<Edge> availableEdges = new HashSet<>(grid.getEdges().values());
+        final List<TilePosition> positions = new ArrayList<>(grid.getTiles().keySet());
+        positions.sort(null);
+        final TilePosition start = positions.get(0);
+        final TilePosition target = positions.get(positions.size() - 1);
+        final List<Edge> path = grid.findPath(start, target, availableEdges, drivingCost, minimumDrivingCost);
+        assertFalse(path.isEmpty());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(path, grid.findPath(start, target, new HashSet<>(availableEdges), drivingCost,
+                    minimumDrivingCost));
+        }
+    }
+
+    @Test
+    public void testNoPath() {
+        final TilePosition start = grid.getTiles().keySet().iterator().next();
+        final TilePosition outside = new TilePosition(1000, 1000);
+        assertEquals(List.of(), grid.findPath(start, outside, Set.copyOf(grid.getEdges().values()), drivingCost,
+                minimumDrivingCost));
+        final TilePosition neighbour = grid.getTileAt(start).getNeighbours().iterator().next().getPosition();
+        assertEquals(List.of(), grid.findPath(start, neighbour, Set.of(), drivingCost, minimumDrivingCost));
+        assertEquals(List.of(), grid.findPath(start, start, Set.of(), drivingCost, minimumDrivingCost));
+    }
+}
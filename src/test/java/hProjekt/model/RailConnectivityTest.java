@@ -0,0 +1,104 @@
+package hProjekt.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the connected cities and connected positions tracked by
+ * {@link RailConnectivity} against a search over the rails of the grid.
+ */
+public class RailConnectivityTest {
+    private final HexGridImpl grid = TestGrids.grid(3);
+    private final Player player1 = TestGrids.player(grid, 1);
+    private final Player player2 = TestGrids.player(grid, 2);
+
+    /**
+     * Returns all positions reachable from the given position over rails of any
+     * player.
+     *
+     * @param start the position to start at
+     * @return the reachable positions, including the start
+     */
+    private Set<TilePosition> reachable(final TilePosition start) {
+        final Set<TilePosition> visited = new HashSet<>(Set.of(start));
+        final Deque<TilePosition> queue = new ArrayDeque<>(visited);
+        while (!queue.isEmpty()) {
+            final TilePosition position = queue.poll();
+            for (final TilePosition neighbour : TilePosition.neighbours(position)) {
+                final Edge edge = grid.getEdge(position, neighbour);
+                if (edge != null && edge.hasRail() && visited.add(neighbour)) {
+                    queue.add(neighbour);
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Asserts that the connected cities and the connectivity between all cities
+     * match a search over the rails.
+     */
+    private void assertConnectivity() {
+        final Map<TilePosition, City> connected = new HashMap<>();
+        final Map<TilePosition, City> unconnected = new HashMap<>();
+        for (final City city : grid.getCities().values()) {
+            final boolean hasRail = grid.getTileAt(city.getPosition()).getEdges().stream().anyMatch(Edge::hasRail);
+            (hasRail ? connected : unconnected).put(city.getPosition(), city);
+        }
+        assertEquals(connected, grid.getConnectedCities());
+        assertEquals(unconnected, grid.getUnconnectedCities());
+
+        for (final TilePosition city : grid.getCities().keySet()) {
+            final Set<TilePosition> reachable = reachable(city);
+            for (final TilePosition other : grid.getCities().keySet()) {
+                assertEquals(reachable.contains(other), grid.isConnectedByRail(city, other),
+                        city + " -> " + other);
+            }
+        }
+    }
+
+    @Test
+    public void testBuildRails() {
+        assertConnectivity();
+        final Random random = new Random(0);
+        for (int i = 0; i < 10; i++) {
+            TestGrids.buildRails(grid, player1, 3, random);
+            TestGrids.buildRails(grid, player2, 3, random);
+            assertConnectivity();
+        }
+        assertFalse(grid.getConnectedCities().isEmpty());
+    }
+
+    @Test
+    public void testRemoveRails() {
+        final Random random = new Random(1);
+        final List<Edge> built = TestGrids.buildRails(grid, player1, 20, random);
+        TestGrids.buildRails(grid, player2, 20, random);
+        assertEquals(20, built.size());
+        for (int i = built.size() - 1; i >= 0; i -= 2) {
+            built.get(i).removeRail(player1);
+            assertConnectivity();
+        }
+    }
+
+    @Test
+    public void testSharedRail() {
+        final List<Edge> built = TestGrids.buildRails(grid, player1, 1, new Random(2));
+        final Edge rail = built.get(0);
+        // the first rail is next to a starting city, so the other player can build on it as well
+        assertTrue(rail.addRail(player2));
+        assertTrue(rail.removeRail(player1));
+        assertTrue(grid.isConnectedByRail(rail.getPosition1(), rail.getPosition2()));
+        assertConnectivity();
+    }
+}
@@ -0,0 +1,118 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the rails and build frontiers maintained by {@link RailIndex} against
+ * a scan over all edges of the grid.
+ */
+public class RailIndexTest {
+    private final HexGridImpl grid = TestGrids.grid(2);
+    private final Player player1 = TestGrids.player(grid, 1);
+    private final Player player2 = TestGrids.player(grid, 2);
+
+    /**
+     * Asserts that the rails and frontier of the given player match a scan over
+     * all edges.
+     *
+     * @param player the player to check
+     */
+    private void assertIndexed(final Player player) {
+        final Map<Set<TilePosition>, Edge> rails = new HashMap<>();
+        for (final Map.Entry<Set<TilePosition>, Edge> entry : grid.getEdges().entrySet()) {
+            if (entry.getValue().getRailOwners().contains(player)) {
+                rails.put(entry.getKey(), entry.getValue());
+            }
+        }
+        assertEquals(rails, grid.getRails(player));
+        assertEquals(rails, player.getRails());
+
+        final Set<Edge> frontier = new HashSet<>();
+        for (final Edge rail : rails.values()) {
+            for (final Edge edge : grid.getEdges().values()) {
+                if (rail.connectsTo(edge) && !edge.getRailOwners().contains(player)) {
+                    frontier.add(edge);
+                }
+            }
+        }
+        assertEquals(frontier, grid.getRailFrontier(player));
+    }
+
+    @Test
+    public void testBuildRails() {
+        assertIndexed(player1);
+        final Random random = new Random(0);
+        for (int i = 0; i < 10; i++) {
+            TestGrids.buildRails(grid, player1, 2, random);
+            TestGrids.buildRails(grid, player2, 2, random);
+            assertIndexed(player1);
+            assertIndexed(player2);
+        }
+    }
+
+    @Test
+    public void testRemoveRails() {
+        final Random random = new Random(1);
+        final List<Edge> built = TestGrids.buildRails(grid, player1, 15, random);
+        TestGrids.buildRails(grid, player2, 15, random);
+        assertEquals(15, built.size());
+        for (int i = 0; i < built.size(); i += 3) {
+            assertTrue(built.get(i).removeRail(player1));
+            assertIndexed(player1);
+            assertIndexed(player2);
+        }
+    }
+
+    @Test
+    public void testLiveViews() {
+        final Map<Set<TilePosition>, Edge> rails = grid.getRails(player1);
+        final Set<Edge> frontier = grid.getRailFrontier(player1);
+        final List<Edge> built = TestGrids.buildRails(grid, player1, 3, new Random(2));
+        assertEquals(built.size(), rails.size());
+        assertFalse(frontier.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> rails.clear());
+        assertThrows(UnsupportedOperationException.class, () -> frontier.clear());
+    }
+
+    @Test
+    public void testRailVersion() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Long>> versions = new ArrayList<>();
+        try {
+            for (int i = 0; i < 4; i++) {
+                versions.add(executor.submit(() -> {
+                    start.await();
+                    return grid.getRailVersion();
+                }));
+            }
+            start.countDown();
+            for (final Future<Long> version : versions) {
+                assertEquals(0, (long) version.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        final List<Edge> built = TestGrids.buildRails(grid, player1, 5, new Random(3));
+        assertEquals(built.size(), grid.getRailVersion());
+        assertTrue(built.get(0).removeRail(player1));
+        assertEquals(built.size() + 1, grid.getRailVersion());
+        assertFalse(built.get(0).removeRail(player1));
+        assertEquals(built.size() + 1, grid.getRailVersion());
+    }
+}
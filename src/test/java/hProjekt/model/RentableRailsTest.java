@@ -0,0 +1,103 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the rails found by {@link HexGridImpl#getRentableRails(Player, int)}
+ * against the breadth-first search the chooseable edges of a player were
+ * originally computed with.
+ */
+public class RentableRailsTest {
+    private final HexGridImpl grid = TestGrids.grid(3);
+    private final List<Player> players = List.of(TestGrids.player(grid, 1), TestGrids.player(grid, 2),
+            TestGrids.player(grid, 3));
+
+    /**
+     * Returns the rails of other players the given player can reach by driving
+     * over at most the given number of them, using a queue of edges and their
+     * distances.
+     *
+     * @param player      the player renting the rails
+     * @param maxDistance the maximum number of rails of other players to drive
+     *                    over
+     * @return the rails of other players the given player can reach
+     */
+    private Set<Edge> search(final Player player, final int maxDistance) {
+        final Set<Edge> rentableRails = new HashSet<>();
+        for (final Edge rail : grid.getRails(player).values()) {
+            for (final Edge edge : rail.getConnectedEdges()) {
+                if (edge.hasRail() && !edge.getRailOwners().contains(player)) {
+                    rentableRails.add(edge);
+                }
+            }
+        }
+
+        final List<Edge> edgeQueue = new ArrayList<>(rentableRails);
+        final List<Integer> distanceQueue = new ArrayList<>();
+        rentableRails.forEach(edge -> distanceQueue.add(1));
+        while (!edgeQueue.isEmpty()) {
+            final Edge current = edgeQueue.remove(0);
+            final int newDistance = distanceQueue.remove(0) + 1;
+            for (final Edge edge : current.getConnectedEdges()) {
+                if (edge.hasRail() && !edge.getRailOwners().contains(player) && !rentableRails.contains(edge)
+                        && newDistance <= maxDistance) {
+                    edgeQueue.add(edge);
+                    distanceQueue.add(newDistance);
+                    rentableRails.add(edge);
+                }
+            }
+        }
+        return rentableRails;
+    }
+
+    /**
+     * Asserts that the rentable rails of every player match the search for every
+     * distance up to {@link Config#MAX_RENTABLE_DISTANCE}.
+     */
+    private void assertRentableRails() {
+        for (final Player player : players) {
+            for (int maxDistance = 1; maxDistance <= Config.MAX_RENTABLE_DISTANCE; maxDistance++) {
+                assertEquals(search(player, maxDistance), grid.getRentableRails(player, maxDistance),
+                        player.getName() + " " + maxDistance);
+            }
+        }
+    }
+
+    @Test
+    public void testMatchesSearch() {
+        final Random random = new Random(0);
+        assertRentableRails();
+        for (int i = 0; i < 6; i++) {
+            for (final Player player : players) {
+                TestGrids.buildRails(grid, player, 5, random);
+            }
+            assertRentableRails();
+        }
+        assertFalse(grid.getRentableRails(players.get(0), Config.MAX_RENTABLE_DISTANCE).isEmpty());
+    }
+
+    @Test
+    public void testRailsRemoved() {
+        final Random random = new Random(1);
+        final List<Edge> built = new ArrayList<>();
+        for (final Player player : players) {
+            built.addAll(TestGrids.buildRails(grid, player, 25, random));
+        }
+        assertRentableRails();
+        for (int i = 0; i < built.size(); i += 3) {
+            final Edge edge = built.get(i);
+            edge.removeRail(edge.getRailOwners().get(0));
+            assertRentableRails();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import hProjekt.Config;
+
+/**
+ * Creates the grids, players and rail networks the model tests run on.
+ * Everything is derived from explicit seeds, so every test run sees the same
+ * grids.
+ */
+final class TestGrids {
+    /**
+     * Orders edges by their positions, so iterating over them does not depend on
+     * hash codes.
+     */
+    static final Comparator<Edge> EDGE_ORDER = Comparator.comparing(Edge::getPosition1)
+            .thenComparing(Edge::getPosition2);
+
+    private static final int SCALE = 3;
+    private static final int NUMBER_OF_CITIES = 6;
+
+    private TestGrids() {
+    }
+
+    /**
+     * Creates a small grid from the given seed.
+     *
+     * @param seed the seed to generate the grid from
+     * @return the generated grid
+     */
+    static HexGridImpl grid(final long seed) {
+        return new HexGridImpl(SCALE, NUMBER_OF_CITIES, Config.TOWN_NAMES, seed);
+    }
+
+    /**
+     * Creates a player with the given id on the given grid.
+     *
+     * @param grid the grid the player is on
+     * @param id   the id of the player
+     * @return the created player
+     */
+    static Player player(final HexGrid grid, final int id) {
+        return new PlayerImpl.Builder(id, new Random(id)).build(grid);
+    }
+
+    /**
+     * Returns all edges of the given grid in {@link #EDGE_ORDER}.
+     *
+     * @param grid the grid
+     * @return the sorted edges of the grid
+     */
+    static List<Edge> sortedEdges(final HexGrid grid) {
+        final List<Edge> edges = new ArrayList<>(grid.getEdges().values());
+        edges.sort(EDGE_ORDER);
+        return edges;
+    }
+
+    /**
+     * Lets the given player build up to the given number of rails, each on a
+     * random edge the player is allowed to build on.
+     *
+     * @param grid   the grid to build on
+     * @param player the player building the rails
+     * @param amount the number of rails to build
+     * @param random the random to choose the edges with
+     * @return the edges the rails have been built on, in the order they were built
+     */
+    static List<Edge> buildRails(final HexGrid grid, final Player player, final int amount, final Random random) {
+        final List<Edge> built = new ArrayList<>();
+        final List<Edge> edges = sortedEdges(grid);
+        for (int i = 0; i < amount; i++) {
+            Collections.shuffle(edges, random);
+            for (final Edge edge : edges) {
+                if (edge.addRail(player)) {
+                    built.add(edge);
+                    break;
+                }
+            }
+        }
+        return built;
+    }
+}
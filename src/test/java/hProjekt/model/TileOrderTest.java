@@ -0,0 +1,73 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that {@link TileOrder} behaves like an insertion ordered set that can
+ * be sampled uniformly.
+ */
+public class TileOrderTest {
+
+    @Test
+    public void testInsertionOrder() {
+        final TileOrder order = new TileOrder();
+        final List<TilePosition> expected = new ArrayList<>();
+        final Random random = new Random(0);
+        for (int i = 0; i < 200; i++) {
+            final TilePosition position = new TilePosition(random.nextInt(10), random.nextInt(10));
+            assertEquals(!expected.contains(position), order.add(position));
+            if (!expected.contains(position)) {
+                expected.add(position);
+            }
+        }
+        assertEquals(expected.size(), order.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), order.get(i));
+        }
+        assertIterableEquals(expected, order);
+    }
+
+    @Test
+    public void testSample() {
+        final TileOrder order = new TileOrder();
+        for (int q = 0; q < 4; q++) {
+            order.add(new TilePosition(q, -q));
+        }
+        final Map<TilePosition, Integer> counts = new HashMap<>();
+        final Random random = new Random(1);
+        for (int i = 0; i < 4000; i++) {
+            counts.merge(order.sample(random), 1, Integer::sum);
+        }
+        assertEquals(4, counts.size());
+        for (final TilePosition position : order) {
+            assertTrue(counts.get(position) > 800, position + " sampled " + counts.get(position) + " times");
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        final TileOrder order = new TileOrder();
+        assertEquals(0, order.size());
+        assertFalse(order.iterator().hasNext());
+        assertThrows(IllegalStateException.class, () -> order.sample(new Random(2)));
+    }
+
+    @Test
+    public void testUnmodifiableIterator() {
+        final TileOrder order = new TileOrder();
+        order.add(new TilePosition(0, 0));
+        final Iterator<TilePosition> iterator = order.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertEquals(1, order.size());
+    }
+}
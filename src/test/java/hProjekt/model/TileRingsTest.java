@@ -0,0 +1,109 @@
+package hProjekt.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that {@link TileRings} visits the same positions in the same order as
+ * {@link TilePosition#forEachRing} and {@link TilePosition#forEachSpiral}.
+ */
+public class TileRingsTest {
+    private static final List<TilePosition> CENTERS = List.of(new TilePosition(0, 0), new TilePosition(3, -2),
+            new TilePosition(-5, 7), new TilePosition(12, 9), new TilePosition(-20, -31));
+    private static final int MAX_RADIUS = 7;
+
+    /**
+     * Returns a visited position with its ring parameters as a list.
+     *
+     * @param q      the q-coordinate of the position
+     * @param r      the r-coordinate of the position
+     * @param radius the radius of the ring
+     * @param side   the index of the side of the ring
+     * @param index  the index of the position on its side
+     * @return the visited position with its ring parameters
+     */
+    private static List<Integer> visit(final int q, final int r, final int radius, final int side,
+            final int index) {
+        return List.of(q, r, radius, side, index);
+    }
+
+    /**
+     * Returns a visited position with its ring parameters as passed to the
+     * functions of {@link TilePosition}.
+     *
+     * @param position the visited position
+     * @param params   the radius, side index and tile index
+     * @return the visited position with its ring parameters
+     */
+    private static List<Integer> visit(final TilePosition position, final Integer[] params) {
+        return visit(position.q(), position.r(), params[0], params[1], params[2]);
+    }
+
+    @Test
+    public void testRings() {
+        for (final TilePosition center : CENTERS) {
+            for (int radius = 0; radius <= MAX_RADIUS; radius++) {
+                final List<List<Integer>> expected = new ArrayList<>();
+                assertFalse(TilePosition.forEachRing(center, radius, (position, params) -> {
+                    expected.add(visit(position, params));
+                    return false;
+                }));
+                final List<List<Integer>> actual = new ArrayList<>();
+                assertFalse(TileRings.forEachRing(center.q(), center.r(), radius, (q, r, ring, side, index) -> {
+                    actual.add(visit(q, r, ring, side, index));
+                    return false;
+                }));
+                assertEquals(expected, actual, center + " " + radius);
+                assertEquals(radius == 0 ? 1 : 6 * radius, actual.size());
+            }
+        }
+    }
+
+    @Test
+    public void testSpirals() {
+        for (final TilePosition center : CENTERS) {
+            for (int radius = 0; radius <= MAX_RADIUS; radius++) {
+                final List<List<Integer>> expected = new ArrayList<>();
+                TilePosition.forEachSpiral(center, radius, (position, params) -> {
+                    expected.add(visit(position, params));
+                    return false;
+                });
+                final List<List<Integer>> actual = new ArrayList<>();
+                assertFalse(TileRings.forEachSpiral(center.q(), center.r(), radius, (q, r, ring, side, index) -> {
+                    actual.add(visit(q, r, ring, side, index));
+                    return false;
+                }));
+                assertEquals(expected, actual, center + " " + radius);
+            }
+        }
+    }
+
+    @Test
+    public void testStopEarly() {
+        for (final TilePosition center : CENTERS) {
+            for (int radius = 1; radius <= MAX_RADIUS; radius++) {
+                final int size = 3 * radius * (radius - 1) + 1;
+                for (int stop = 0; stop < size; stop++) {
+                    final int limit = stop;
+                    final List<List<Integer>> expected = new ArrayList<>();
+                    TilePosition.forEachSpiral(center, radius, (position, params) -> {
+                        expected.add(visit(position, params));
+                        return expected.size() > limit;
+                    });
+                    final List<List<Integer>> actual = new ArrayList<>();
+                    assertTrue(TileRings.forEachSpiral(center.q(), center.r(), radius,
+                            (q, r, ring, side, index) -> {
+                                actual.add(visit(q, r, ring, side, index));
+                                return actual.size() > limit;
+                            }));
+                    assertEquals(expected, actual, center + " " + radius + " " + stop);
+                    assertEquals(stop + 1, actual.size());
+                }
+            }
+        }
+    }
+}
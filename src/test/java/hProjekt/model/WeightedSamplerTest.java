@@ -0,0 +1,90 @@
+package hProjekt.model;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the sums and samples of {@link WeightedSampler} against a linear scan
+ * over the weights.
+ */
+public class WeightedSamplerTest {
+
+    /**
+     * Returns the index whose weight interval contains the given fraction by
+     * scanning all weights.
+     *
+     * @param weights  the weights
+     * @param fraction a value in {@code [0, 1)}
+     * @return the sampled index or {@code -1} if all weights are {@code 0}
+     */
+    private static int scan(final double[] weights, final double fraction) {
+        double total = 0;
+        for (final double weight : weights) {
+            total += weight;
+        }
+        if (total <= 0) {
+            return -1;
+        }
+        double remaining = fraction * total;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0 && remaining < weights[i]) {
+                return i;
+            }
+            remaining -= weights[i];
+        }
+        return -1;
+    }
+
+    @Test
+    public void testSample() {
+        final WeightedSampler sampler = new WeightedSampler(3);
+        sampler.set(0, 1);
+        sampler.set(2, 3);
+        assertEquals(4, sampler.total(), 1e-9);
+        assertEquals(0, sampler.sample(0));
+        assertEquals(0, sampler.sample(0.2));
+        assertEquals(2, sampler.sample(0.25));
+        assertEquals(2, sampler.sample(0.99));
+    }
+
+    @Test
+    public void testZeroAndNegativeWeights() {
+        final WeightedSampler sampler = new WeightedSampler(5);
+        assertEquals(-1, sampler.sample(0.5));
+        sampler.set(3, -2);
+        assertEquals(0, sampler.total(), 1e-9);
+        assertEquals(-1, sampler.sample(0.5));
+        sampler.set(3, 2);
+        sampler.set(3, 0);
+        assertEquals(-1, sampler.sample(0));
+    }
+
+    @Test
+    public void testMatchesScan() {
+        final Random random = new Random(0);
+        final double[] weights = new double[37];
+        final WeightedSampler sampler = new WeightedSampler(weights.length);
+        for (int i = 0; i < 500; i++) {
+            final int index = random.nextInt(weights.length);
+            weights[index] = random.nextInt(3) == 0 ? 0 : random.nextInt(100);
+            sampler.set(index, weights[index]);
+
+            double total = 0;
+            for (final double weight : weights) {
+                total += weight;
+            }
+            assertEquals(total, sampler.total(), 1e-6);
+            for (int j = 0; j < 20; j++) {
+                final double fraction = random.nextDouble();
+                final int sampled = sampler.sample(fraction);
+                assertEquals(scan(weights, fraction), sampled, "fraction " + fraction);
+                if (sampled >= 0) {
+                    assertTrue(weights[sampled] > 0);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package hProjekt.sim;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.controller.AiController;
+import hProjekt.controller.BasicAiController;
+import hProjekt.controller.GamePhase;
+import hProjekt.controller.PlayerController;
+import hProjekt.model.City;
+import hProjekt.model.GameState;
+import hProjekt.model.HexGrid;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.util.Pair;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks how a {@link Tournament} rotates the AI controllers through the seats
+ * of its games and how it aggregates the results of the games.
+ */
+public class TournamentTest {
+    private static final List<Class<? extends AiController>> AI_CONTROLLERS = List.of(BasicAiController.class,
+            SecondAiController.class, ThirdAiController.class);
+
+    /**
+     * A second AI controller that plays like the {@link BasicAiController}.
+     */
+    public static class SecondAiController extends BasicAiController {
+        /**
+         * Creates a new AI controller.
+         *
+         * @param playerController       the player controller
+         * @param hexGrid                the grid
+         * @param gameState              the game state
+         * @param activePlayerController the active player controller
+         * @param diceRollProperty       the dice roll
+         * @param roundCounterProperty   the round counter
+         * @param chosenCitiesProperty   the chosen cities
+         */
+        public SecondAiController(final PlayerController playerController, final HexGrid hexGrid,
+                final GameState gameState, final Property<PlayerController> activePlayerController,
+                final IntegerProperty diceRollProperty, final IntegerProperty roundCounterProperty,
+                final ReadOnlyProperty<Pair<City, City>> chosenCitiesProperty) {
+            super(playerController, hexGrid, gameState, activePlayerController, diceRollProperty,
+                    roundCounterProperty, chosenCitiesProperty);
+        }
+    }
+
+    /**
+     * A third AI controller that plays like the {@link BasicAiController}.
+     */
+    public static class ThirdAiController extends BasicAiController {
+        /**
+         * Creates a new AI controller.
+         *
+         * @param playerController       the player controller
+         * @param hexGrid                the grid
+         * @param gameState              the game state
+         * @param activePlayerController the active player controller
+         * @param diceRollProperty       the dice roll
+         * @param roundCounterProperty   the round counter
+         * @param chosenCitiesProperty   the chosen cities
+         */
+        public ThirdAiController(final PlayerController playerController, final HexGrid hexGrid,
+                final GameState gameState, final Property<PlayerController> activePlayerController,
+                final IntegerProperty diceRollProperty, final IntegerProperty roundCounterProperty,
+                final ReadOnlyProperty<Pair<City, City>> chosenCitiesProperty) {
+            super(playerController, hexGrid, gameState, activePlayerController, diceRollProperty,
+                    roundCounterProperty, chosenCitiesProperty);
+        }
+    }
+
+    /**
+     * Creates the result of a game.
+     *
+     * @param players  the results of the players
+     * @param winner   the index of the winner or {@code -1} if the game has no
+     *                 winner
+     * @param building the rounds and seconds spent in the building phase
+     * @param driving  the rounds and seconds spent in the driving phase or
+     *                 {@code 0} if the game did not reach it
+     * @param failed   whether the game ended early
+     * @return the result of the game
+     */
+    private static GameResult game(final List<PlayerResult> players, final int winner, final int building,
+            final int driving, final boolean failed) {
+        final Map<GamePhase, Integer> rounds = driving == 0 ? Map.of(GamePhase.BUILDING_PHASE, building)
+                : Map.of(GamePhase.BUILDING_PHASE, building, GamePhase.DRIVING_PHASE, driving);
+        final Map<GamePhase, Duration> phaseDurations = driving == 0
+                ? Map.of(GamePhase.BUILDING_PHASE, Duration.ofSeconds(building))
+                : Map.of(GamePhase.BUILDING_PHASE, Duration.ofSeconds(building), GamePhase.DRIVING_PHASE,
+                        Duration.ofSeconds(driving));
+        return new GameResult(0, players, winner < 0 ? null : players.get(winner), rounds, phaseDurations,
+                Duration.ZERO, Duration.ofSeconds(building + driving),
+                failed ? new IllegalStateException("failed") : null);
+    }
+
+    /**
+     * Returns the result of the given AI controller in the given tournament
+     * result.
+     *
+     * @param result       the result of the tournament
+     * @param aiController the AI controller
+     * @return the result of the AI controller
+     */
+    private static ControllerResult controller(final TournamentResult result,
+            final Class<? extends AiController> aiController) {
+        return result.controllers().stream().filter(controller -> controller.aiController() == aiController)
+                .findFirst().orElseThrow();
+    }
+
+    @Test
+    public void testSeatRotation() {
+        final Tournament tournament = new Tournament(AI_CONTROLLERS, 2, 9, 42);
+        final List<HeadlessGame> games = tournament.createGames();
+        assertEquals(9, games.size());
+        final Set<Long> seeds = new HashSet<>();
+        for (int i = 0; i < games.size(); i++) {
+            assertEquals(List.of(AI_CONTROLLERS.get(i % 3), AI_CONTROLLERS.get((i + 1) % 3)),
+                    games.get(i).getAiControllers());
+            seeds.add(games.get(i).getSeed());
+        }
+        assertEquals(9, seeds.size());
+        assertEquals(games.stream().map(HeadlessGame::getSeed).toList(),
+                new Tournament(AI_CONTROLLERS, 2, 9, 42).createGames().stream().map(HeadlessGame::getSeed).toList());
+
+        final List<HeadlessGame> fullGames = new Tournament(AI_CONTROLLERS, 4, 3, 42).createGames();
+        for (int i = 0; i < fullGames.size(); i++) {
+            for (int j = 0; j < 4; j++) {
+                assertEquals(AI_CONTROLLERS.get((i + j) % 3), fullGames.get(i).getAiControllers().get(j));
+            }
+        }
+    }
+
+    @Test
+    public void testSummarize() {
+        final Class<? extends AiController> first = AI_CONTROLLERS.get(0);
+        final Class<? extends AiController> second = AI_CONTROLLERS.get(1);
+        final Class<? extends AiController> third = AI_CONTROLLERS.get(2);
+        final List<GameResult> games = List.of(
+                game(List.of(new PlayerResult("1", first, 10, 3), new PlayerResult("2", second, 20, 4)), 1, 2, 4,
+                        false),
+                game(List.of(new PlayerResult("1", second, 30, 5), new PlayerResult("2", first, 5, 6)), 0, 4, 2,
+                        false),
+                game(List.of(new PlayerResult("1", third, 50, 7), new PlayerResult("2", first, 50, 8)), -1, 3, 0,
+                        true),
+                game(List.of(new PlayerResult("1", first, 7, 9), new PlayerResult("2", first, 9, 10)), 1, 1, 1,
+                        false));
+        final TournamentResult result = new Tournament(AI_CONTROLLERS, 2, games.size(), 0).summarize(games,
+                Duration.ofSeconds(30));
+
+        assertEquals(games, result.games());
+        assertEquals(AI_CONTROLLERS, result.controllers().stream().map(ControllerResult::aiController).toList());
+        assertEquals(3, result.completedGames());
+        assertEquals(1, result.failedGames());
+        assertEquals(new ControllerResult(first, 4, 1, 1, OptionalDouble.of(0.25), OptionalDouble.of(31 / 4.0)),
+                controller(result, first));
+        assertEquals(new ControllerResult(second, 2, 0, 2, OptionalDouble.of(1), OptionalDouble.of(25)),
+                controller(result, second));
+        assertEquals(new ControllerResult(third, 0, 1, 0, OptionalDouble.empty(), OptionalDouble.empty()),
+                controller(result, third));
+
+        assertEquals(Map.of(GamePhase.BUILDING_PHASE, 2.5, GamePhase.DRIVING_PHASE, 1.75), result.averageRounds());
+        assertEquals(Map.of(GamePhase.BUILDING_PHASE, Duration.ofMillis(2500), GamePhase.DRIVING_PHASE,
+                Duration.ofMillis(1750)), result.averagePhaseDurations());
+        assertEquals(Duration.ofMillis(4250), result.averageGameDuration());
+        assertEquals(Duration.ofSeconds(30), result.duration());
+    }
+
+    @Test
+    public void testSummarizeNoGames() {
+        final TournamentResult result = new Tournament(AI_CONTROLLERS, 2, 0, 0).summarize(List.of(), Duration.ZERO);
+        assertEquals(0, result.completedGames());
+        assertEquals(0, result.failedGames());
+        for (final ControllerResult controller : result.controllers()) {
+            assertEquals(0, controller.games());
+            assertTrue(controller.winRate().isEmpty());
+            assertTrue(controller.averageCredits().isEmpty());
+        }
+        assertEquals(Map.of(), result.averageRounds());
+        assertEquals(Duration.ZERO, result.averageGameDuration());
+    }
+}
@@ -0,0 +1,88 @@
+package hProjekt.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import hProjekt.Config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that {@link NameModel#of(String[], int)} shares models only between
+ * identical inputs and stores them in the cache directory.
+ */
+public class NameModelTest {
+
+    @Test
+    public void testSharedBetweenEqualInputs() {
+        final String[] names = { "Berlin", "Bremen", "Bonn" };
+        final NameModel model = NameModel.of(names, 2);
+        assertSame(model, NameModel.of(names.clone(), 2));
+        assertSame(model, NameModel.of(new String[] { "Berlin", "Bremen", "Bonn" }, 2));
+        assertEquals(NameModel.train(names, 2).getNgramCollection(), model.getNgramCollection());
+    }
+
+    @Test
+    public void testKeyedByFullInput() {
+        final NameModel model = NameModel.of(new String[] { "ab", "c" }, 1);
+        assertNotSame(model, NameModel.of(new String[] { "a", "bc" }, 1));
+        assertNotSame(model, NameModel.of(new String[] { "c", "ab" }, 1));
+        assertNotSame(model, NameModel.of(new String[] { "ab", "c" }, 2));
+        assertEquals(2, NameModel.of(new String[] { "ab", "c" }, 2).getOrder());
+    }
+
+    @Test
+    public void testNamesCopied() {
+        final String[] names = { "Hamburg", "Hannover" };
+        final NameModel model = NameModel.of(names, 2);
+        names[1] = "Kiel";
+        assertSame(model, NameModel.of(new String[] { "Hamburg", "Hannover" }, 2));
+        assertNotSame(model, NameModel.of(names, 2));
+    }
+
+    @Test
+    public void testCacheDirectory() throws IOException {
+        final Path previous = Config.NAME_MODEL_CACHE_DIRECTORY;
+        final Path directory = Files.createTempDirectory("names");
+        try {
+            Config.NAME_MODEL_CACHE_DIRECTORY = directory;
+            final String[] names = { "Essen", "Erfurt", directory.getFileName().toString() };
+            final NameModel model = NameModel.of(names, 3);
+            final List<Path> files;
+            try (Stream<Path> list = Files.list(directory)) {
+                files = list.toList();
+            }
+            assertEquals(1, files.size());
+            assertTrue(files.get(0).getFileName().toString().matches("names-[0-9a-f]{64}\\.bin"));
+            assertEquals(NameModel.train(names, 3).getNgramCollection(), model.getNgramCollection());
+        } finally {
+            Config.NAME_MODEL_CACHE_DIRECTORY = previous;
+            try (Stream<Path> list = Files.list(directory)) {
+                for (final Path file : list.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void testUnusableCacheDirectory() throws IOException {
+        final Path previous = Config.NAME_MODEL_CACHE_DIRECTORY;
+        final Path file = Files.createTempFile("names", ".txt");
+        try {
+            Config.NAME_MODEL_CACHE_DIRECTORY = file;
+            final String[] names = { "Dresden", "Dortmund", file.getFileName().toString() };
+            assertThrows(UncheckedIOException.class, () -> NameModel.of(names, 3));
+        } finally {
+            Config.NAME_MODEL_CACHE_DIRECTORY = previous;
+            Files.delete(file);
+        }
+    }
+}